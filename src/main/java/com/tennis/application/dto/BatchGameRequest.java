@@ -0,0 +1,21 @@
+package com.tennis.application.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request to score many tennis games at once")
+public record BatchGameRequest(
+        @ArraySchema(
+                arraySchema = @Schema(description = "Ball sequences to score, one per game. Invalid sequences are reported per item."),
+                schema = @Schema(example = "ABABAA")
+        )
+        @NotEmpty(message = "Batch must contain at least one ball sequence")
+        @Size(max = MAX_BATCH_SIZE, message = "Batch cannot contain more than " + MAX_BATCH_SIZE + " ball sequences")
+        List<String> ballSequences
+) {
+    public static final int MAX_BATCH_SIZE = 10_000;
+}
@@ -0,0 +1,17 @@
+package com.tennis.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Response containing one result per requested ball sequence, in request order")
+public record BatchGameResponse(
+        @Schema(description = "Per-sequence results in the same order as the request")
+        List<BatchGameResult> results,
+
+        @Schema(description = "Number of sequences scored successfully", example = "2")
+        int succeeded,
+
+        @Schema(description = "Number of sequences rejected by validation", example = "1")
+        int failed
+) {}
@@ -0,0 +1,24 @@
+package com.tennis.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one ball sequence in a batch")
+public record BatchGameResult(
+        @Schema(description = "Position of the sequence in the request", example = "0")
+        int index,
+
+        @Schema(description = "Game result (null if the sequence was rejected)")
+        GameResponse game,
+
+        @Schema(description = "Validation error for this sequence (null if it was scored)",
+                example = "Ball sequence must contain only 'A' and 'B' characters")
+        String error
+) {
+    public static BatchGameResult success(int index, GameResponse game) {
+        return new BatchGameResult(index, game, null);
+    }
+
+    public static BatchGameResult failure(int index, String error) {
+        return new BatchGameResult(index, null, error);
+    }
+}
@@ -9,9 +9,13 @@ public record GameRequest(
         @Schema(
                 description = "Sequence of ball wins. 'A' means Player A wins the ball, 'B' means Player B wins the ball",
                 example = "ABABAA",
-                pattern = "^[AB]+$"
+                pattern = BALL_SEQUENCE_PATTERN
         )
-        @NotBlank(message = "Ball sequence cannot be empty")
-        @Pattern(regexp = "^[AB]+$", message = "Ball sequence must contain only 'A' and 'B' characters")
+        @NotBlank(message = EMPTY_SEQUENCE_MESSAGE)
+        @Pattern(regexp = BALL_SEQUENCE_PATTERN, message = INVALID_SEQUENCE_MESSAGE)
         String ballSequence
-) {}
\ No newline at end of file
+) {
+    public static final String BALL_SEQUENCE_PATTERN = "^[AB]+$";
+    public static final String EMPTY_SEQUENCE_MESSAGE = "Ball sequence cannot be empty";
+    public static final String INVALID_SEQUENCE_MESSAGE = "Ball sequence must contain only 'A' and 'B' characters";
+}
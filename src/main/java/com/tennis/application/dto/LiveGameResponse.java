@@ -0,0 +1,30 @@
+package com.tennis.application.dto;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.service.TennisGameService;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Current state of a live game")
+public record LiveGameResponse(
+        @Schema(description = "Unique identifier for the game", example = "123e4567-e89b-12d3-a456-426614174000")
+        String gameId,
+
+        @Schema(description = "Current score, or the win message once the game is over",
+                example = "Player A : 30 / Player B : 15")
+        String score,
+
+        @Schema(description = "Whether the game has finished", example = "false")
+        boolean isFinished,
+
+        @Schema(description = "Winner of the game (null if not finished)", example = "Player A")
+        String winner
+) {
+    public static LiveGameResponse from(GameState gameState) {
+        return new LiveGameResponse(
+                gameState.gameId(),
+                TennisGameService.resultMessage(gameState),
+                gameState.isFinished(),
+                gameState.isFinished() ? "Player " + gameState.winner() : null
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.tennis.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+@Schema(description = "Request to score one ball of a live game")
+public record PointRequest(
+        @Schema(description = "Player who won the ball: 'A' or 'B'", example = "A", pattern = PLAYER_PATTERN)
+        @NotBlank(message = "Player cannot be empty")
+        @Pattern(regexp = PLAYER_PATTERN, message = "Player must be 'A' or 'B'")
+        String player
+) {
+    public static final String PLAYER_PATTERN = "^[AB]$";
+}
@@ -0,0 +1,18 @@
+package com.tennis.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One value of an aggregate maintained by the stream processor")
+public record StreamsAggregateResponse(
+        @Schema(description = "State store holding the aggregate", example = "points-per-game")
+        String store,
+
+        @Schema(description = "Key looked up in the store", example = "123e4567-e89b-12d3-a456-426614174000")
+        String key,
+
+        @Schema(description = "Aggregated value", example = "6")
+        Object value,
+
+        @Schema(description = "Instance (host:port) whose local store answered", example = "localhost:8080")
+        String servedBy
+) {}
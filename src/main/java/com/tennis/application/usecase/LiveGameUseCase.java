@@ -0,0 +1,29 @@
+package com.tennis.application.usecase;
+
+import com.tennis.application.dto.LiveGameResponse;
+import com.tennis.application.dto.PointRequest;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.service.TennisGameService;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LiveGameUseCase {
+
+    private final TennisGameService tennisGameService;
+
+    public LiveGameUseCase(TennisGameService tennisGameService) {
+        this.tennisGameService = tennisGameService;
+    }
+
+    public LiveGameResponse startGame() {
+        return LiveGameResponse.from(tennisGameService.startGame());
+    }
+
+    public LiveGameResponse scorePoint(String gameId, PointRequest request) {
+        return LiveGameResponse.from(tennisGameService.scorePoint(gameId, Player.valueOf(request.player())));
+    }
+
+    public LiveGameResponse getGame(String gameId) {
+        return LiveGameResponse.from(tennisGameService.findGame(gameId));
+    }
+}
@@ -1,5 +1,8 @@
 package com.tennis.application.usecase;
 
+import com.tennis.application.dto.BatchGameRequest;
+import com.tennis.application.dto.BatchGameResponse;
+import com.tennis.application.dto.BatchGameResult;
 import com.tennis.application.dto.GameRequest;
 import com.tennis.application.dto.GameResponse;
 import com.tennis.domain.service.TennisGameService;
@@ -7,6 +10,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 @Component
 public class PlayTennisGameUseCase {
@@ -18,8 +22,47 @@ public class PlayTennisGameUseCase {
     }
 
     public GameResponse execute(GameRequest request) {
-        List<String> scoreProgression = tennisGameService.playGame(request.ballSequence());
+        return toResponse(tennisGameService.playGame(request.ballSequence()));
+    }
+
+    /**
+     * Scores every sequence of the batch on the fork-join pool. Results keep the request order and
+     * invalid sequences are reported inline so that one bad item does not fail the whole batch.
+     */
+    public BatchGameResponse executeBatch(BatchGameRequest request) {
+        List<String> sequences = request.ballSequences();
+
+        List<BatchGameResult> results = IntStream.range(0, sequences.size())
+                .parallel()
+                .mapToObj(index -> scoreBatchItem(index, sequences.get(index)))
+                .toList();
+
+        int failed = (int) results.stream().filter(result -> result.error() != null).count();
+        return new BatchGameResponse(results, results.size() - failed, failed);
+    }
+
+    private BatchGameResult scoreBatchItem(int index, String ballSequence) {
+        String error = validate(ballSequence);
+        if (error != null) {
+            return BatchGameResult.failure(index, error);
+        }
+        return BatchGameResult.success(index, toResponse(tennisGameService.playGame(ballSequence)));
+    }
+
+    private static String validate(String ballSequence) {
+        if (ballSequence == null || ballSequence.isBlank()) {
+            return GameRequest.EMPTY_SEQUENCE_MESSAGE;
+        }
+        for (int i = 0; i < ballSequence.length(); i++) {
+            char ball = ballSequence.charAt(i);
+            if (ball != 'A' && ball != 'B') {
+                return GameRequest.INVALID_SEQUENCE_MESSAGE;
+            }
+        }
+        return null;
+    }
 
+    private static GameResponse toResponse(List<String> scoreProgression) {
         String lastScore = scoreProgression.getLast();
         boolean isFinished = lastScore.contains("wins the game");
         String winner = null;
@@ -35,4 +78,4 @@ public class PlayTennisGameUseCase {
                 winner
         );
     }
-}
\ No newline at end of file
+}
@@ -7,8 +7,8 @@ package com.tennis.avro;
 /** Type of event that occurred */
 @org.apache.avro.specific.AvroGenerated
 public enum EventType implements org.apache.avro.generic.GenericEnumSymbol<EventType> {
-  POINT_SCORED, GAME_FINISHED  ;
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"enum\",\"name\":\"EventType\",\"namespace\":\"com.tennis.avro\",\"doc\":\"Type of event that occurred\",\"symbols\":[\"POINT_SCORED\",\"GAME_FINISHED\"]}");
+  POINT_SCORED, GAME_FINISHED, GAME_SUMMARY  ;
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"enum\",\"name\":\"EventType\",\"namespace\":\"com.tennis.avro\",\"doc\":\"Type of event that occurred\",\"symbols\":[\"POINT_SCORED\",\"GAME_FINISHED\",\"GAME_SUMMARY\"]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   @Override
@@ -15,10 +15,10 @@ import org.apache.avro.message.SchemaStore;
 /** Event representing a tennis game action */
 @org.apache.avro.specific.AvroGenerated
 public class GameEvent extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = -8564868733357534139L;
+  private static final long serialVersionUID = 1772800178847565440L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"GameEvent\",\"namespace\":\"com.tennis.avro\",\"doc\":\"Event representing a tennis game action\",\"fields\":[{\"name\":\"gameId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier for the game\"},{\"name\":\"eventType\",\"type\":{\"type\":\"enum\",\"name\":\"EventType\",\"doc\":\"Type of event that occurred\",\"symbols\":[\"POINT_SCORED\",\"GAME_FINISHED\"]},\"doc\":\"The type of event\"},{\"name\":\"player\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Player who scored the point (null for game finished events)\",\"default\":null},{\"name\":\"playerAScore\",\"type\":\"int\",\"doc\":\"Current score for Player A\"},{\"name\":\"playerBScore\",\"type\":\"int\",\"doc\":\"Current score for Player B\"},{\"name\":\"displayScore\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Human-readable score display\"},{\"name\":\"isFinished\",\"type\":\"boolean\",\"doc\":\"Whether the game has finished\"},{\"name\":\"winner\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Winner of the game (null if not finished)\",\"default\":null},{\"name\":\"timestamp\",\"type\":\"long\",\"doc\":\"Event timestamp in milliseconds since epoch\"},{\"name\":\"metadata\",\"type\":{\"type\":\"record\",\"name\":\"EventMetadata\",\"fields\":[{\"name\":\"version\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Schema version\",\"default\":\"1.0.0\"},{\"name\":\"source\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Source system\",\"default\":\"tennis-scoring-system\"}]},\"doc\":\"Event metadata\"}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"GameEvent\",\"namespace\":\"com.tennis.avro\",\"doc\":\"Event representing a tennis game action\",\"fields\":[{\"name\":\"gameId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier for the game\"},{\"name\":\"eventType\",\"type\":{\"type\":\"enum\",\"name\":\"EventType\",\"doc\":\"Type of event that occurred\",\"symbols\":[\"POINT_SCORED\",\"GAME_FINISHED\",\"GAME_SUMMARY\"]},\"doc\":\"The type of event\"},{\"name\":\"player\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Player who scored the point (null for game finished events)\",\"default\":null},{\"name\":\"playerAScore\",\"type\":\"int\",\"doc\":\"Current score for Player A\"},{\"name\":\"playerBScore\",\"type\":\"int\",\"doc\":\"Current score for Player B\"},{\"name\":\"displayScore\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Human-readable score display\"},{\"name\":\"isFinished\",\"type\":\"boolean\",\"doc\":\"Whether the game has finished\"},{\"name\":\"winner\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Winner of the game (null if not finished)\",\"default\":null},{\"name\":\"timestamp\",\"type\":\"long\",\"doc\":\"Event timestamp in milliseconds since epoch\"},{\"name\":\"metadata\",\"type\":{\"type\":\"record\",\"name\":\"EventMetadata\",\"fields\":[{\"name\":\"version\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Schema version\",\"default\":\"1.0.0\"},{\"name\":\"source\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Source system\",\"default\":\"tennis-scoring-system\"}]},\"doc\":\"Event metadata\"},{\"name\":\"pointBitmap\",\"type\":[\"null\",\"bytes\"],\"doc\":\"Ball sequence of a GAME_SUMMARY event, one bit per ball (1 = Player A won it), least significant bit of the first byte first\",\"default\":null},{\"name\":\"pointCount\",\"type\":\"int\",\"doc\":\"Number of balls encoded in pointBitmap (0 for per-point events)\",\"default\":0}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -94,6 +94,10 @@ public class GameEvent extends org.apache.avro.specific.SpecificRecordBase imple
   private long timestamp;
   /** Event metadata */
   private com.tennis.avro.EventMetadata metadata;
+  /** Ball sequence of a GAME_SUMMARY event, one bit per ball (1 = Player A won it), least significant bit of the first byte first */
+  private java.nio.ByteBuffer pointBitmap;
+  /** Number of balls encoded in pointBitmap (0 for per-point events) */
+  private int pointCount;
 
   /**
    * Default constructor.  Note that this does not initialize fields
@@ -114,8 +118,10 @@ public class GameEvent extends org.apache.avro.specific.SpecificRecordBase imple
    * @param winner Winner of the game (null if not finished)
    * @param timestamp Event timestamp in milliseconds since epoch
    * @param metadata Event metadata
+   * @param pointBitmap Ball sequence of a GAME_SUMMARY event, one bit per ball (1 = Player A won it), least significant bit of the first byte first
+   * @param pointCount Number of balls encoded in pointBitmap (0 for per-point events)
    */
-  public GameEvent(java.lang.String gameId, com.tennis.avro.EventType eventType, java.lang.String player, java.lang.Integer playerAScore, java.lang.Integer playerBScore, java.lang.String displayScore, java.lang.Boolean isFinished, java.lang.String winner, java.lang.Long timestamp, com.tennis.avro.EventMetadata metadata) {
+  public GameEvent(java.lang.String gameId, com.tennis.avro.EventType eventType, java.lang.String player, java.lang.Integer playerAScore, java.lang.Integer playerBScore, java.lang.String displayScore, java.lang.Boolean isFinished, java.lang.String winner, java.lang.Long timestamp, com.tennis.avro.EventMetadata metadata, java.nio.ByteBuffer pointBitmap, java.lang.Integer pointCount) {
     this.gameId = gameId;
     this.eventType = eventType;
     this.player = player;
@@ -126,6 +132,8 @@ public class GameEvent extends org.apache.avro.specific.SpecificRecordBase imple
     this.winner = winner;
     this.timestamp = timestamp;
     this.metadata = metadata;
+    this.pointBitmap = pointBitmap;
+    this.pointCount = pointCount;
   }
 
   @Override
@@ -148,6 +156,8 @@ public class GameEvent extends org.apache.avro.specific.SpecificRecordBase imple
     case 7: return winner;
     case 8: return timestamp;
     case 9: return metadata;
+    case 10: return pointBitmap;
+    case 11: return pointCount;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -167,6 +177,8 @@ public class GameEvent extends org.apache.avro.specific.SpecificRecordBase imple
     case 7: winner = value$ != null ? value$.toString() : null; break;
     case 8: timestamp = (java.lang.Long)value$; break;
     case 9: metadata = (com.tennis.avro.EventMetadata)value$; break;
+    case 10: pointBitmap = (java.nio.ByteBuffer)value$; break;
+    case 11: pointCount = (java.lang.Integer)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -351,6 +363,42 @@ public class GameEvent extends org.apache.avro.specific.SpecificRecordBase imple
     this.metadata = value;
   }
 
+  /**
+   * Gets the value of the 'pointBitmap' field.
+   * @return Ball sequence of a GAME_SUMMARY event, one bit per ball (1 = Player A won it), least significant bit of the first byte first
+   */
+  public java.nio.ByteBuffer getPointBitmap() {
+    return pointBitmap;
+  }
+
+
+  /**
+   * Sets the value of the 'pointBitmap' field.
+   * Ball sequence of a GAME_SUMMARY event, one bit per ball (1 = Player A won it), least significant bit of the first byte first
+   * @param value the value to set.
+   */
+  public void setPointBitmap(java.nio.ByteBuffer value) {
+    this.pointBitmap = value;
+  }
+
+  /**
+   * Gets the value of the 'pointCount' field.
+   * @return Number of balls encoded in pointBitmap (0 for per-point events)
+   */
+  public int getPointCount() {
+    return pointCount;
+  }
+
+
+  /**
+   * Sets the value of the 'pointCount' field.
+   * Number of balls encoded in pointBitmap (0 for per-point events)
+   * @param value the value to set.
+   */
+  public void setPointCount(int value) {
+    this.pointCount = value;
+  }
+
   /**
    * Creates a new GameEvent RecordBuilder.
    * @return A new GameEvent RecordBuilder
@@ -413,6 +461,10 @@ public class GameEvent extends org.apache.avro.specific.SpecificRecordBase imple
     /** Event metadata */
     private com.tennis.avro.EventMetadata metadata;
     private com.tennis.avro.EventMetadata.Builder metadataBuilder;
+    /** Ball sequence of a GAME_SUMMARY event, one bit per ball (1 = Player A won it), least significant bit of the first byte first */
+    private java.nio.ByteBuffer pointBitmap;
+    /** Number of balls encoded in pointBitmap (0 for per-point events) */
+    private int pointCount;
 
     /** Creates a new Builder */
     private Builder() {
@@ -468,6 +520,14 @@ public class GameEvent extends org.apache.avro.specific.SpecificRecordBase imple
       if (other.hasMetadataBuilder()) {
         this.metadataBuilder = com.tennis.avro.EventMetadata.newBuilder(other.getMetadataBuilder());
       }
+      if (isValidValue(fields()[10], other.pointBitmap)) {
+        this.pointBitmap = data().deepCopy(fields()[10].schema(), other.pointBitmap);
+        fieldSetFlags()[10] = other.fieldSetFlags()[10];
+      }
+      if (isValidValue(fields()[11], other.pointCount)) {
+        this.pointCount = data().deepCopy(fields()[11].schema(), other.pointCount);
+        fieldSetFlags()[11] = other.fieldSetFlags()[11];
+      }
     }
 
     /**
@@ -517,6 +577,14 @@ public class GameEvent extends org.apache.avro.specific.SpecificRecordBase imple
         fieldSetFlags()[9] = true;
       }
       this.metadataBuilder = null;
+      if (isValidValue(fields()[10], other.pointBitmap)) {
+        this.pointBitmap = data().deepCopy(fields()[10].schema(), other.pointBitmap);
+        fieldSetFlags()[10] = true;
+      }
+      if (isValidValue(fields()[11], other.pointCount)) {
+        this.pointCount = data().deepCopy(fields()[11].schema(), other.pointCount);
+        fieldSetFlags()[11] = true;
+      }
     }
 
     /**
@@ -994,6 +1062,93 @@ public class GameEvent extends org.apache.avro.specific.SpecificRecordBase imple
       return this;
     }
 
+    /**
+      * Gets the value of the 'pointBitmap' field.
+      * Ball sequence of a GAME_SUMMARY event, one bit per ball (1 = Player A won it), least significant bit of the first byte first
+      * @return The value.
+      */
+    public java.nio.ByteBuffer getPointBitmap() {
+      return pointBitmap;
+    }
+
+
+    /**
+      * Sets the value of the 'pointBitmap' field.
+      * Ball sequence of a GAME_SUMMARY event, one bit per ball (1 = Player A won it), least significant bit of the first byte first
+      * @param value The value of 'pointBitmap'.
+      * @return This builder.
+      */
+    public com.tennis.avro.GameEvent.Builder setPointBitmap(java.nio.ByteBuffer value) {
+      validate(fields()[10], value);
+      this.pointBitmap = value;
+      fieldSetFlags()[10] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'pointBitmap' field has been set.
+      * Ball sequence of a GAME_SUMMARY event, one bit per ball (1 = Player A won it), least significant bit of the first byte first
+      * @return True if the 'pointBitmap' field has been set, false otherwise.
+      */
+    public boolean hasPointBitmap() {
+      return fieldSetFlags()[10];
+    }
+
+
+    /**
+      * Clears the value of the 'pointBitmap' field.
+      * Ball sequence of a GAME_SUMMARY event, one bit per ball (1 = Player A won it), least significant bit of the first byte first
+      * @return This builder.
+      */
+    public com.tennis.avro.GameEvent.Builder clearPointBitmap() {
+      pointBitmap = null;
+      fieldSetFlags()[10] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'pointCount' field.
+      * Number of balls encoded in pointBitmap (0 for per-point events)
+      * @return The value.
+      */
+    public int getPointCount() {
+      return pointCount;
+    }
+
+
+    /**
+      * Sets the value of the 'pointCount' field.
+      * Number of balls encoded in pointBitmap (0 for per-point events)
+      * @param value The value of 'pointCount'.
+      * @return This builder.
+      */
+    public com.tennis.avro.GameEvent.Builder setPointCount(int value) {
+      validate(fields()[11], value);
+      this.pointCount = value;
+      fieldSetFlags()[11] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'pointCount' field has been set.
+      * Number of balls encoded in pointBitmap (0 for per-point events)
+      * @return True if the 'pointCount' field has been set, false otherwise.
+      */
+    public boolean hasPointCount() {
+      return fieldSetFlags()[11];
+    }
+
+
+    /**
+      * Clears the value of the 'pointCount' field.
+      * Number of balls encoded in pointBitmap (0 for per-point events)
+      * @return This builder.
+      */
+    public com.tennis.avro.GameEvent.Builder clearPointCount() {
+      fieldSetFlags()[11] = false;
+      return this;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public GameEvent build() {
@@ -1018,6 +1173,8 @@ public class GameEvent extends org.apache.avro.specific.SpecificRecordBase imple
         } else {
           record.metadata = fieldSetFlags()[9] ? this.metadata : (com.tennis.avro.EventMetadata) defaultValue(fields()[9]);
         }
+        record.pointBitmap = fieldSetFlags()[10] ? this.pointBitmap : (java.nio.ByteBuffer) defaultValue(fields()[10]);
+        record.pointCount = fieldSetFlags()[11] ? this.pointCount : (java.lang.Integer) defaultValue(fields()[11]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
@@ -1082,6 +1239,16 @@ public class GameEvent extends org.apache.avro.specific.SpecificRecordBase imple
 
     this.metadata.customEncode(out);
 
+    if (this.pointBitmap == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      out.writeBytes(this.pointBitmap);
+    }
+
+    out.writeInt(this.pointCount);
+
   }
 
   @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
@@ -1122,8 +1289,17 @@ public class GameEvent extends org.apache.avro.specific.SpecificRecordBase imple
       }
       this.metadata.customDecode(in);
 
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.pointBitmap = null;
+      } else {
+        this.pointBitmap = in.readBytes(this.pointBitmap);
+      }
+
+      this.pointCount = in.readInt();
+
     } else {
-      for (int i = 0; i < 10; i++) {
+      for (int i = 0; i < 12; i++) {
         switch (fieldOrder[i].pos()) {
         case 0:
           this.gameId = in.readString();
@@ -1178,6 +1354,19 @@ public class GameEvent extends org.apache.avro.specific.SpecificRecordBase imple
           this.metadata.customDecode(in);
           break;
 
+        case 10:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.pointBitmap = null;
+          } else {
+            this.pointBitmap = in.readBytes(this.pointBitmap);
+          }
+          break;
+
+        case 11:
+          this.pointCount = in.readInt();
+          break;
+
         default:
           throw new java.io.IOException("Corrupt ResolvingDecoder.");
         }
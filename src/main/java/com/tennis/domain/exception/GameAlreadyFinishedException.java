@@ -0,0 +1,8 @@
+package com.tennis.domain.exception;
+
+public class GameAlreadyFinishedException extends RuntimeException {
+
+    public GameAlreadyFinishedException(String gameId) {
+        super("Game is already finished: " + gameId);
+    }
+}
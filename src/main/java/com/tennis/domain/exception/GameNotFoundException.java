@@ -0,0 +1,8 @@
+package com.tennis.domain.exception;
+
+public class GameNotFoundException extends RuntimeException {
+
+    public GameNotFoundException(String gameId) {
+        super("Game not found: " + gameId);
+    }
+}
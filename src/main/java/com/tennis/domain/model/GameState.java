@@ -9,45 +9,24 @@ public record GameState(
 ) {
 
     public static GameState initial(String gameId) {
-        var score = new Score(0, 0);
-        return new GameState(
-                gameId,
-                score,
-                false,
-                null,
-                formatDisplayScore(score)
-        );
+        return of(gameId, ScoreState.initial());
     }
 
-    public GameState addPoint(Player player) {
-        var newScore = score.addPoint(player);
-        boolean finished = newScore.isGameWon();
-        Player gameWinner = finished ? newScore.getWinner() : null;
-
+    public static GameState of(String gameId, ScoreState state) {
         return new GameState(
                 gameId,
-                newScore,
-                finished,
-                gameWinner,
-                formatDisplayScore(newScore)
+                state.score(),
+                state.isFinished(),
+                state.winner(),
+                state.displayScore()
         );
     }
 
-    private static String formatDisplayScore(Score score) {
-        if (score.isDeuce()) {
-            return "Player A : Deuce / Player B : Deuce";
-        }
-
-        if (score.hasAdvantage(Player.A)) {
-            return "Player A : Advantage / Player B : 40";
-        }
-
-        if (score.hasAdvantage(Player.B)) {
-            return "Player A : 40 / Player B : Advantage";
-        }
+    public ScoreState state() {
+        return ScoreState.of(score);
+    }
 
-        return String.format("Player A : %s / Player B : %s",
-                score.getDisplayScore(Player.A),
-                score.getDisplayScore(Player.B));
+    public GameState addPoint(Player player) {
+        return of(gameId, state().next(player));
     }
 }
\ No newline at end of file
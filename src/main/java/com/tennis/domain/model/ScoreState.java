@@ -0,0 +1,119 @@
+package com.tennis.domain.model;
+
+/**
+ * Canonical states of a single tennis game.
+ * <p>
+ * Every reachable {@link Score} collapses onto one of these constants: the regular scores up to 40-30,
+ * deuce, advantage for either player and the winning states. Winning states keep the loser's score so
+ * that the display stays identical to the point-count based formatting of {@link Score}. Point counts
+ * saturate at deuce (3-3) and advantage (4-3 / 3-4), so long deuce battles no longer grow them.
+ * <p>
+ * Transitions, canonical scores and display strings are computed once when the class is loaded:
+ * scoring a point is a single array lookup and never allocates.
+ */
+public enum ScoreState {
+    A0_B0(0, 0), A1_B0(1, 0), A2_B0(2, 0), A3_B0(3, 0),
+    A0_B1(0, 1), A1_B1(1, 1), A2_B1(2, 1), A3_B1(3, 1),
+    A0_B2(0, 2), A1_B2(1, 2), A2_B2(2, 2), A3_B2(3, 2),
+    A0_B3(0, 3), A1_B3(1, 3), A2_B3(2, 3),
+    DEUCE(3, 3),
+    ADVANTAGE_A(4, 3),
+    ADVANTAGE_B(3, 4),
+    WON_A_B0(4, 0), WON_A_B1(4, 1), WON_A_B2(4, 2), WON_A_B3(5, 3),
+    WON_B_A0(0, 4), WON_B_A1(1, 4), WON_B_A2(2, 4), WON_B_A3(3, 5);
+
+    private static final int MAX_CANONICAL_POINTS = 5;
+    private static final ScoreState[] TRANSITIONS = new ScoreState[values().length * 2];
+    private static final ScoreState[][] BY_POINTS =
+            new ScoreState[MAX_CANONICAL_POINTS + 1][MAX_CANONICAL_POINTS + 1];
+
+    static {
+        for (ScoreState state : values()) {
+            BY_POINTS[state.score.playerAPoints()][state.score.playerBPoints()] = state;
+        }
+        for (ScoreState state : values()) {
+            for (Player player : Player.values()) {
+                ScoreState next = state.finished
+                        ? state
+                        : of(state.score.addPoint(player));
+                TRANSITIONS[(state.ordinal() << 1) | player.ordinal()] = next;
+            }
+        }
+    }
+
+    private final Score score;
+    private final boolean finished;
+    private final Player winner;
+    private final String displayScore;
+
+    ScoreState(int playerAPoints, int playerBPoints) {
+        this.score = new Score(playerAPoints, playerBPoints);
+        this.finished = score.isGameWon();
+        this.winner = finished ? score.getWinner() : null;
+        this.displayScore = formatDisplayScore(score);
+    }
+
+    public static ScoreState initial() {
+        return A0_B0;
+    }
+
+    /**
+     * Returns the canonical state for an arbitrary point count, folding extended deuce battles
+     * (e.g. 6-6 or 7-6) back onto deuce and advantage.
+     */
+    public static ScoreState of(Score score) {
+        int a = score.playerAPoints();
+        int b = score.playerBPoints();
+
+        if (a >= 3 && b >= 3) {
+            int lead = a - b;
+            if (lead == 0) return DEUCE;
+            if (lead == 1) return ADVANTAGE_A;
+            if (lead == -1) return ADVANTAGE_B;
+            return lead > 0 ? WON_A_B3 : WON_B_A3;
+        }
+        if (a < 0 || b < 0) {
+            throw new IllegalArgumentException("Points cannot be negative: " + score);
+        }
+        if (a >= 4) return BY_POINTS[4][b];
+        if (b >= 4) return BY_POINTS[a][4];
+        return BY_POINTS[a][b];
+    }
+
+    public ScoreState next(Player player) {
+        return TRANSITIONS[(ordinal() << 1) | player.ordinal()];
+    }
+
+    public Score score() {
+        return score;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public Player winner() {
+        return winner;
+    }
+
+    public String displayScore() {
+        return displayScore;
+    }
+
+    private static String formatDisplayScore(Score score) {
+        if (score.isDeuce()) {
+            return "Player A : Deuce / Player B : Deuce";
+        }
+
+        if (score.hasAdvantage(Player.A)) {
+            return "Player A : Advantage / Player B : 40";
+        }
+
+        if (score.hasAdvantage(Player.B)) {
+            return "Player A : 40 / Player B : Advantage";
+        }
+
+        return ("Player A : " + score.getDisplayScore(Player.A)
+                + " / Player B : " + score.getDisplayScore(Player.B)).intern();
+    }
+}
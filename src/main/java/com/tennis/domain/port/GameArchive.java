@@ -0,0 +1,10 @@
+package com.tennis.domain.port;
+
+import com.tennis.domain.model.GameState;
+
+/**
+ * Cold store that receives finished games before a bounded repository evicts them.
+ */
+public interface GameArchive {
+    void archive(GameState gameState);
+}
@@ -2,8 +2,26 @@ package com.tennis.domain.port;
 
 import com.tennis.domain.model.GameState;
 import com.tennis.domain.model.Player;
+import com.tennis.domain.model.ScoreState;
+
+import java.util.List;
 
 public interface GameEventPublisher {
     void publishPointScored(GameState gameState, Player player);
     void publishGameFinished(GameState gameState);
-}
\ No newline at end of file
+
+    /**
+     * Publishes a game scored in one go, {@code balls} being every ball played and {@code gameState}
+     * the resulting state. Publishers without a compact representation replay it as per-point events.
+     */
+    default void publishGameSummary(GameState gameState, List<Player> balls) {
+        ScoreState state = ScoreState.initial();
+        for (Player player : balls) {
+            state = state.next(player);
+            publishPointScored(GameState.of(gameState.gameId(), state), player);
+        }
+        if (gameState.isFinished()) {
+            publishGameFinished(gameState);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.tennis.domain.port;
 
 import com.tennis.domain.model.GameState;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +13,35 @@ public interface GameRepository {
     long countTotalGames();
     long countFinishedGames();
     long countGamesByWinner(String winner);
+
+    /**
+     * Atomically stores {@code updated} if the game's current state equals {@code expected}.
+     *
+     * @return {@code false} if the game is missing or its state has changed since {@code expected} was read
+     */
+    boolean replace(GameState expected, GameState updated);
+
+    /**
+     * Atomically stores {@code gameState} unless a state is already stored for its game.
+     *
+     * @return {@code false} if the game was present and nothing was changed
+     */
+    boolean saveIfAbsent(GameState gameState);
+
+    default void saveAll(Collection<GameState> gameStates) {
+        gameStates.forEach(this::save);
+    }
+
+    /**
+     * @return the number of states stored by {@link #saveIfAbsent}
+     */
+    default int saveAllIfAbsent(Collection<GameState> gameStates) {
+        int saved = 0;
+        for (GameState gameState : gameStates) {
+            if (saveIfAbsent(gameState)) {
+                saved++;
+            }
+        }
+        return saved;
+    }
 }
@@ -1,7 +1,10 @@
 package com.tennis.domain.service;
 
+import com.tennis.domain.exception.GameAlreadyFinishedException;
+import com.tennis.domain.exception.GameNotFoundException;
 import com.tennis.domain.model.GameState;
 import com.tennis.domain.model.Player;
+import com.tennis.domain.model.ScoreState;
 import com.tennis.domain.port.GameEventPublisher;
 import com.tennis.domain.port.GameRepository;
 import com.tennis.infrastructure.monitoring.GameMetrics;
@@ -9,15 +12,30 @@ import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class TennisGameService {
 
+    private static final Map<Player, String> WIN_MESSAGES = new EnumMap<>(Player.class);
+
+    static {
+        for (Player player : Player.values()) {
+            WIN_MESSAGES.put(player, String.format("Player %s wins the game", player));
+        }
+    }
+
+    // Power of two, so a game's stripe is a mask of its id hash
+    private static final int POINT_LOCK_STRIPES = 256;
+
     private final GameRepository gameRepository;
     private final GameEventPublisher eventPublisher;
     private final GameMetrics gameMetrics;
+    private final ReentrantLock[] pointLocks = new ReentrantLock[POINT_LOCK_STRIPES];
 
     public TennisGameService(GameRepository gameRepository,
                              GameEventPublisher eventPublisher,
@@ -25,6 +43,9 @@ public class TennisGameService {
         this.gameRepository = gameRepository;
         this.eventPublisher = eventPublisher;
         this.gameMetrics = gameMetrics;
+        for (int i = 0; i < POINT_LOCK_STRIPES; i++) {
+            pointLocks[i] = new ReentrantLock();
+        }
     }
 
     public List<String> playGame(String ballSequence) {
@@ -32,34 +53,89 @@ public class TennisGameService {
 
         try {
             String gameId = UUID.randomUUID().toString();
-            GameState gameState = GameState.initial(gameId);
-            List<String> results = new ArrayList<>();
+            ScoreState state = ScoreState.initial();
+            GameState gameState = null;
+            List<Player> balls = new ArrayList<>(ballSequence.length());
+            List<String> results = new ArrayList<>(ballSequence.length());
 
-            for (char ball : ballSequence.toCharArray()) {
-                if (gameState.isFinished()) {
-                    break;
-                }
-
-                Player player = ball == 'A' ? Player.A : Player.B;
-                gameState = gameState.addPoint(player);
+            for (int i = 0; i < ballSequence.length() && !state.isFinished(); i++) {
+                Player player = ballSequence.charAt(i) == 'A' ? Player.A : Player.B;
+                state = state.next(player);
+                gameState = GameState.of(gameId, state);
+                balls.add(player);
 
                 gameRepository.save(gameState);
-                eventPublisher.publishPointScored(gameState, player);
                 gameMetrics.incrementPointsScored();
 
+                results.add(resultMessage(gameState));
                 if (gameState.isFinished()) {
-                    results.add(String.format("Player %s wins the game", gameState.winner()));
-                    eventPublisher.publishGameFinished(gameState);
                     gameMetrics.incrementGamesPlayed();
                     gameMetrics.incrementPlayerWins(gameState.winner().name());
-                } else {
-                    results.add(gameState.displayScore());
                 }
             }
 
+            // The whole sequence is known up front, so it is published as one summary
+            if (gameState != null) {
+                eventPublisher.publishGameSummary(gameState, balls);
+            }
             return results;
         } finally {
             gameMetrics.recordGameProcessingTime(sample);
         }
     }
-}
\ No newline at end of file
+
+    public GameState startGame() {
+        GameState gameState = GameState.initial(UUID.randomUUID().toString());
+        gameRepository.save(gameState);
+        return gameState;
+    }
+
+    public GameState findGame(String gameId) {
+        return gameRepository.findById(gameId).orElseThrow(() -> new GameNotFoundException(gameId));
+    }
+
+    /**
+     * Applies one ball to a stored game. The repository entry is updated by compare-and-set: a submission
+     * that loses the race to another writer re-reads the game and applies its ball to the newer state.
+     * <p>
+     * Points on the same game are applied and published one at a time under a lock striped by game id,
+     * so its events are published in the order of the states they carry. Without it, a point that wins
+     * the race to the repository could still be published after a later one.
+     */
+    public GameState scorePoint(String gameId, Player player) {
+        ReentrantLock lock = pointLocks[gameId.hashCode() & (POINT_LOCK_STRIPES - 1)];
+        lock.lock();
+        try {
+            while (true) {
+                GameState current = findGame(gameId);
+                if (current.isFinished()) {
+                    throw new GameAlreadyFinishedException(gameId);
+                }
+
+                GameState updated = current.addPoint(player);
+                if (!gameRepository.replace(current, updated)) {
+                    gameMetrics.incrementPointConflicts();
+                    continue;
+                }
+
+                eventPublisher.publishPointScored(updated, player);
+                gameMetrics.incrementPointsScored();
+                if (updated.isFinished()) {
+                    eventPublisher.publishGameFinished(updated);
+                    gameMetrics.incrementGamesPlayed();
+                    gameMetrics.incrementPlayerWins(updated.winner().name());
+                }
+                return updated;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The line reported for a state: its display score, or the win message once the game is over.
+     */
+    public static String resultMessage(GameState gameState) {
+        return gameState.isFinished() ? WIN_MESSAGES.get(gameState.winner()) : gameState.displayScore();
+    }
+}
@@ -0,0 +1,385 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.port.GameEventPublisher;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publishes game events from background threads so that scoring never waits on the delegate
+ * (typically Kafka, whose {@code send} can block while metadata loads).
+ * <p>
+ * Events are sharded by game id; each shard is a bounded ring of preallocated slots drained by its own
+ * thread, so the events of one game are delivered in order. When a ring is full the
+ * {@link OverflowPolicy} decides what happens to the caller.
+ */
+public class AsyncGameEventPublisher implements GameEventPublisher, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncGameEventPublisher.class);
+
+    private static final byte POINT_SCORED = 0;
+    private static final byte GAME_FINISHED = 1;
+    private static final byte GAME_SUMMARY = 2;
+
+    public enum OverflowPolicy {
+        /** The caller waits for space. Nothing is lost. */
+        BLOCK,
+        /** The oldest queued event of the shard is discarded. The caller never waits. */
+        DROP_OLDEST,
+        /**
+         * Events beyond capacity go to an overflow queue, kept in order behind the ring. Once that queue
+         * holds its spill capacity as well, the caller waits as with {@link #BLOCK}.
+         */
+        SPILL
+    }
+
+    private final GameEventPublisher delegate;
+    private final GameMetrics gameMetrics;
+    private final OverflowPolicy overflowPolicy;
+    private final int spillCapacity;
+    private final Shard[] shards;
+
+    public AsyncGameEventPublisher(GameEventPublisher delegate,
+                                   GameMetrics gameMetrics,
+                                   int shardCount,
+                                   int capacity,
+                                   int drainBatchSize,
+                                   OverflowPolicy overflowPolicy) {
+        this(delegate, gameMetrics, shardCount, capacity, drainBatchSize, overflowPolicy, capacity);
+    }
+
+    /**
+     * @param capacity slots per shard; rounded up to a power of two
+     * @param spillCapacity events per shard the {@link OverflowPolicy#SPILL} queue holds before callers wait
+     */
+    public AsyncGameEventPublisher(GameEventPublisher delegate,
+                                   GameMetrics gameMetrics,
+                                   int shardCount,
+                                   int capacity,
+                                   int drainBatchSize,
+                                   OverflowPolicy overflowPolicy,
+                                   int spillCapacity) {
+        if (shardCount < 1 || capacity < 1 || drainBatchSize < 1 || spillCapacity < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "shards, capacity, drain batch size and spill capacity must be positive: %d, %d, %d, %d",
+                    shardCount, capacity, drainBatchSize, spillCapacity));
+        }
+        this.delegate = delegate;
+        this.gameMetrics = gameMetrics;
+        this.overflowPolicy = overflowPolicy;
+        this.spillCapacity = spillCapacity;
+
+        int ringSize = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, ringSize, drainBatchSize);
+        }
+        gameMetrics.registerEventBufferOccupancy(this::occupancy);
+    }
+
+    @Override
+    public void publishPointScored(GameState gameState, Player player) {
+        shardFor(gameState.gameId()).enqueue(POINT_SCORED, gameState, player, null);
+    }
+
+    @Override
+    public void publishGameFinished(GameState gameState) {
+        shardFor(gameState.gameId()).enqueue(GAME_FINISHED, gameState, null, null);
+    }
+
+    /** Queued as a single event, so a compacting delegate still sees the whole game at once. */
+    @Override
+    public void publishGameSummary(GameState gameState, List<Player> balls) {
+        shardFor(gameState.gameId()).enqueue(GAME_SUMMARY, gameState, null, List.copyOf(balls));
+    }
+
+    /** Events queued in all shards, including spilled ones. */
+    public int occupancy() {
+        int total = 0;
+        for (Shard shard : shards) {
+            total += shard.size();
+        }
+        return total;
+    }
+
+    /**
+     * Stops accepting events, delivers everything already queued and stops the drain threads.
+     * Events published afterwards go straight to the delegate on the caller's thread, once their shard
+     * has delivered everything queued before them.
+     */
+    @Override
+    public void close() {
+        for (Shard shard : shards) {
+            shard.stop();
+        }
+        for (Shard shard : shards) {
+            try {
+                shard.thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Shard shardFor(String gameId) {
+        return shards[(gameId.hashCode() & Integer.MAX_VALUE) % shards.length];
+    }
+
+    private void deliver(byte kind, GameState gameState, Player player, List<Player> balls) {
+        try {
+            switch (kind) {
+                case POINT_SCORED -> delegate.publishPointScored(gameState, player);
+                case GAME_FINISHED -> delegate.publishGameFinished(gameState);
+                default -> delegate.publishGameSummary(gameState, balls);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to publish event for game: {}", gameState.gameId(), e);
+        }
+    }
+
+    private enum Admission {
+        ENQUEUE,
+        /** Spilled or dropped by the overflow policy. */
+        HANDLED,
+        DELIVER_DIRECTLY
+    }
+
+    private static final class Slot {
+        byte kind;
+        GameState gameState;
+        Player player;
+        List<Player> balls;
+        long enqueuedNanos;
+
+        void set(byte kind, GameState gameState, Player player, List<Player> balls, long enqueuedNanos) {
+            this.kind = kind;
+            this.gameState = gameState;
+            this.player = player;
+            this.balls = balls;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        void copyFrom(Slot other) {
+            set(other.kind, other.gameState, other.player, other.balls, other.enqueuedNanos);
+        }
+
+        void clear() {
+            gameState = null;
+            player = null;
+            balls = null;
+        }
+    }
+
+    private final class Shard {
+
+        private final Slot[] ring;
+        private final int mask;
+        private final Slot[] drainBuffer;
+        private final Queue<Slot> spilled = new ArrayDeque<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final Condition notFull = lock.newCondition();
+        private final Condition drainedCondition = lock.newCondition();
+        private final Thread thread;
+
+        // Guarded by lock
+        private long head;
+        private long tail;
+        private boolean stopped;
+        private boolean drained;
+
+        Shard(int index, int ringSize, int drainBatchSize) {
+            this.ring = new Slot[ringSize];
+            this.mask = ringSize - 1;
+            for (int i = 0; i < ringSize; i++) {
+                ring[i] = new Slot();
+            }
+            this.drainBuffer = new Slot[Math.min(drainBatchSize, ringSize)];
+            for (int i = 0; i < drainBuffer.length; i++) {
+                drainBuffer[i] = new Slot();
+            }
+
+            this.thread = new Thread(this::drainLoop, "game-event-publisher-" + index);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        void enqueue(byte kind, GameState gameState, Player player, List<Player> balls) {
+            long now = System.nanoTime();
+            Admission admission;
+            lock.lock();
+            try {
+                if (stopped) {
+                    admission = Admission.DELIVER_DIRECTLY;
+                } else if (!spilled.isEmpty() || isFull()) {
+                    admission = makeRoom(kind, gameState, player, balls, now);
+                } else {
+                    admission = Admission.ENQUEUE;
+                }
+                if (admission == Admission.ENQUEUE) {
+                    ring[(int) (tail++ & mask)].set(kind, gameState, player, balls, now);
+                    notEmpty.signal();
+                } else if (admission == Admission.DELIVER_DIRECTLY && !awaitDrained()) {
+                    admission = Admission.HANDLED;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (admission == Admission.DELIVER_DIRECTLY) {
+                deliver(kind, gameState, player, balls);
+            }
+        }
+
+        /**
+         * Applies the overflow policy while the ring is full or events are spilled ahead of this one.
+         */
+        private Admission makeRoom(byte kind, GameState gameState, Player player, List<Player> balls,
+                                   long now) {
+            switch (overflowPolicy) {
+                case BLOCK -> {
+                    while (isFull() && !stopped) {
+                        try {
+                            notFull.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            gameMetrics.incrementEventsDropped("interrupted");
+                            return Admission.HANDLED;
+                        }
+                    }
+                    return stopped ? Admission.DELIVER_DIRECTLY : Admission.ENQUEUE;
+                }
+                case DROP_OLDEST -> {
+                    ring[(int) (head++ & mask)].clear();
+                    gameMetrics.incrementEventsDropped("overflow");
+                    return Admission.ENQUEUE;
+                }
+                case SPILL -> {
+                    while (spilled.size() >= spillCapacity && !stopped) {
+                        try {
+                            notFull.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            gameMetrics.incrementEventsDropped("interrupted");
+                            return Admission.HANDLED;
+                        }
+                    }
+                    if (stopped) {
+                        return Admission.DELIVER_DIRECTLY;
+                    }
+                    if (spilled.isEmpty() && !isFull()) {
+                        return Admission.ENQUEUE;
+                    }
+                    // Only allocated while the ring is full; the queue is bounded by spillCapacity
+                    Slot slot = new Slot();
+                    slot.set(kind, gameState, player, balls, now);
+                    spilled.add(slot);
+                    gameMetrics.incrementEventsSpilled();
+                    return Admission.HANDLED;
+                }
+                default -> throw new IllegalStateException("Unknown overflow policy: " + overflowPolicy);
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return (int) (tail - head) + spilled.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void stop() {
+            lock.lock();
+            try {
+                stopped = true;
+                notEmpty.signalAll();
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isFull() {
+            return tail - head == ring.length;
+        }
+
+        /**
+         * Waits until the drain thread has delivered its last event, so that a direct delivery cannot
+         * overtake an earlier event of the same game.
+         */
+        private boolean awaitDrained() {
+            while (!drained) {
+                try {
+                    drainedCondition.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    gameMetrics.incrementEventsDropped("interrupted");
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void drainLoop() {
+            try {
+                drainUntilStopped();
+            } finally {
+                lock.lock();
+                try {
+                    drained = true;
+                    drainedCondition.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        private void drainUntilStopped() {
+            while (true) {
+                int count;
+                lock.lock();
+                try {
+                    while (tail == head && !stopped) {
+                        notEmpty.awaitUninterruptibly();
+                    }
+                    if (tail == head) {
+                        return;
+                    }
+
+                    count = (int) Math.min(tail - head, drainBuffer.length);
+                    for (int i = 0; i < count; i++) {
+                        Slot slot = ring[(int) (head++ & mask)];
+                        drainBuffer[i].copyFrom(slot);
+                        slot.clear();
+                    }
+                    // Spilled events are newer than everything in the ring, so they move in at the tail
+                    while (!spilled.isEmpty() && !isFull()) {
+                        ring[(int) (tail++ & mask)].copyFrom(spilled.poll());
+                    }
+                    notFull.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+
+                for (int i = 0; i < count; i++) {
+                    Slot slot = drainBuffer[i];
+                    gameMetrics.recordEventPublishLag(System.nanoTime() - slot.enqueuedNanos);
+                    deliver(slot.kind, slot.gameState, slot.player, slot.balls);
+                    slot.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.avro.GameEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only file of game events that could not be published, read back in the order they were
+ * appended.
+ * <p>
+ * Events go to {@code events.spool} as {@code [length][crc32c][payload]}, where the payload is the
+ * event's Avro single-object encoding. {@code events.offset} holds the position of the first event not
+ * yet confirmed as published, so a restart resumes where draining stopped; an event whose confirmation
+ * was not recorded is published again. Once everything is drained both files are reset to empty.
+ * With {@code fsync} every append is synced, otherwise appends survive a process crash but not a
+ * power loss.
+ * <p>
+ * File access is guarded by a {@link ReentrantLock} rather than {@code synchronized}: appends come from
+ * request threads, and a virtual thread blocked on file I/O inside a monitor would pin its carrier.
+ */
+public class EventSpool implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventSpool.class);
+
+    private static final String SPOOL_FILE = "events.spool";
+    private static final String OFFSET_FILE = "events.offset";
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+
+    private final FileChannel spool;
+    private final FileChannel offset;
+    private final boolean fsync;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long readPosition;
+    private long writePosition;
+    private long pending;
+
+    /**
+     * An event read from the spool, with the position to {@link #commit} once it is published.
+     */
+    public record Entry(GameEvent event, long nextPosition) {
+    }
+
+    public EventSpool(Path directory, boolean fsync) {
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(directory);
+            this.spool = FileChannel.open(directory.resolve(SPOOL_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.offset = FileChannel.open(directory.resolve(OFFSET_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open event spool in " + directory, e);
+        }
+        if (pending > 0) {
+            logger.info("Event spool holds {} unpublished events", pending);
+        }
+    }
+
+    public void append(GameEvent event) {
+        lock.lock();
+        try {
+            ByteBuffer payload = event.toByteBuffer();
+            ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.remaining());
+            record.putInt(payload.remaining());
+            record.putInt(crc(payload.duplicate()));
+            record.put(payload);
+            record.flip();
+            while (record.hasRemaining()) {
+                writePosition += spool.write(record, writePosition);
+            }
+            if (fsync) {
+                spool.force(false);
+            }
+            pending++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to event spool", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads up to {@code max} events from the oldest unpublished one on, without consuming them.
+     */
+    public List<Entry> peek(int max) {
+        List<Entry> entries = new ArrayList<>();
+        lock.lock();
+        long position = readPosition;
+        try {
+            while (entries.size() < max && position < writePosition) {
+                byte[] payload = readPayload(position);
+                position += RECORD_HEADER_BYTES + payload.length;
+                entries.add(new Entry(GameEvent.fromByteBuffer(ByteBuffer.wrap(payload)), position));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read event spool at position " + position, e);
+        } finally {
+            lock.unlock();
+        }
+        return entries;
+    }
+
+    /**
+     * Marks every event before {@code position} as published.
+     */
+    public void commit(long position) {
+        lock.lock();
+        try {
+            if (position <= readPosition) {
+                return;
+            }
+            pending -= count(readPosition, position);
+            readPosition = position;
+            if (readPosition == writePosition) {
+                // Everything is drained: start over rather than letting the file grow forever
+                spool.truncate(0);
+                readPosition = 0;
+                writePosition = 0;
+                pending = 0;
+            }
+            writeOffset();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot commit event spool position " + position, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return readPosition == writePosition;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Events appended and not yet committed. */
+    public long pending() {
+        lock.lock();
+        try {
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            spool.force(true);
+            offset.force(true);
+            spool.close();
+            offset.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recover() throws IOException {
+        ByteBuffer stored = ByteBuffer.allocate(Long.BYTES);
+        offset.read(stored, 0);
+        readPosition = stored.position() == Long.BYTES ? stored.flip().getLong() : 0;
+        if (readPosition > spool.size()) {
+            // The spool was reset after draining and the process stopped before the offset was
+            readPosition = 0;
+        }
+
+        // Scan to the last complete record; a torn tail is left by a crash during an append
+        long position = readPosition;
+        long size = spool.size();
+        while (position < size) {
+            try {
+                position += RECORD_HEADER_BYTES + readPayload(position).length;
+                pending++;
+            } catch (IOException e) {
+                logger.warn("Truncating torn tail of event spool at position {}: {}", position, e.getMessage());
+                spool.truncate(position);
+                break;
+            }
+        }
+        writePosition = position;
+    }
+
+    private byte[] readPayload(long position) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        readFully(header, position);
+        int length = header.getInt(0);
+        int expectedCrc = header.getInt(4);
+        if (length <= 0 || length > MAX_RECORD_BYTES) {
+            throw new IOException("Corrupt record length " + length);
+        }
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(payload, position + RECORD_HEADER_BYTES);
+        if (crc(payload.flip().duplicate()) != expectedCrc) {
+            throw new IOException("CRC mismatch");
+        }
+        return payload.array();
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (spool.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of spool");
+            }
+        }
+    }
+
+    private long count(long from, long to) throws IOException {
+        long count = 0;
+        for (long position = from; position < to; count++) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            readFully(header, position);
+            position += RECORD_HEADER_BYTES + header.getInt(0);
+        }
+        return count;
+    }
+
+    private void writeOffset() throws IOException {
+        ByteBuffer stored = ByteBuffer.allocate(Long.BYTES).putLong(readPosition).flip();
+        while (stored.hasRemaining()) {
+            offset.write(stored, stored.position());
+        }
+        if (fsync) {
+            offset.force(false);
+        }
+    }
+
+    private static int crc(ByteBuffer payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,32 @@
+package com.tennis.infrastructure.adapter;
+
+import java.time.Duration;
+
+/**
+ * Limits for {@link InMemoryGameRepository}. A zero limit disables that rule.
+ * Only finished games are ever evicted, oldest finished first.
+ *
+ * @param maxEntries  maximum number of games kept on the heap
+ * @param maxBytes    maximum estimated heap footprint of the stored games
+ * @param finishedTtl how long a game is kept after it finished
+ */
+public record EvictionPolicy(int maxEntries, long maxBytes, Duration finishedTtl) {
+
+    public EvictionPolicy {
+        if (maxEntries < 0 || maxBytes < 0 || finishedTtl.isNegative()) {
+            throw new IllegalArgumentException("Eviction limits cannot be negative");
+        }
+    }
+
+    public static EvictionPolicy unbounded() {
+        return new EvictionPolicy(0, 0, Duration.ZERO);
+    }
+
+    public boolean hasTtl() {
+        return !finishedTtl.isZero();
+    }
+
+    public boolean isBounded() {
+        return maxEntries > 0 || maxBytes > 0 || hasTtl();
+    }
+}
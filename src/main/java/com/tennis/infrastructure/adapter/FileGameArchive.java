@@ -0,0 +1,69 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.port.GameArchive;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends evicted games to a CSV file: {@code gameId,playerAPoints,playerBPoints,winner}.
+ */
+public class FileGameArchive implements GameArchive, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileGameArchive.class);
+
+    private final BufferedWriter writer;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileGameArchive(Path path) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open game archive " + path, e);
+        }
+        logger.info("Archiving evicted games to {}", path);
+    }
+
+    @Override
+    public void archive(GameState gameState) {
+        lock.lock();
+        try {
+            writer.write(gameState.gameId());
+            writer.write(',');
+            writer.write(Integer.toString(gameState.score().playerAPoints()));
+            writer.write(',');
+            writer.write(Integer.toString(gameState.score().playerBPoints()));
+            writer.write(',');
+            writer.write(gameState.winner() != null ? gameState.winner().name() : "");
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot archive game " + gameState.gameId(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            writer.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Score;
+import com.tennis.domain.model.ScoreState;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of game state transitions with periodic snapshots.
+ * <p>
+ * Records go to numbered segment files ({@code journal-N.log}) as {@code [length][crc32c][payload]},
+ * where the payload is the game id followed by both point counts. A single writer thread drains every
+ * record queued while the previous write was in flight and syncs them with one {@code fsync}
+ * (group commit). A snapshot ({@code snapshot-N.snap}) holds the full state at the start of segment N;
+ * recovery loads the newest snapshot and replays only segments N and later. Records carry complete
+ * states, so replaying a record that the snapshot already contains is harmless.
+ */
+public class GameJournal implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameJournal.class);
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final int MAX_GROUP_SIZE = 4096;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final boolean fsync;
+    private final GameMetrics gameMetrics;
+    private final BlockingQueue<Command> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+
+    private FileChannel segment;
+    private long segmentNumber;
+    private volatile boolean running = true;
+    // Set once nothing takes commands from the queue any more
+    private volatile boolean writerStopped;
+
+    public GameJournal(Path directory, long segmentBytes, boolean fsync, GameMetrics gameMetrics) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        this.gameMetrics = gameMetrics;
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create journal directory " + directory, e);
+        }
+
+        this.writer = new Thread(this::writeLoop, "game-journal-writer");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Loads the newest snapshot and replays the segments written after it, then opens a fresh segment
+     * for new records. Must be called once, before the first append.
+     *
+     * @return the number of states handed to {@code sink}
+     */
+    public long recover(Consumer<GameState> sink) {
+        long start = System.nanoTime();
+        long recovered = 0;
+
+        try {
+            long snapshot = latestNumber(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+            if (snapshot >= 0) {
+                recovered += readFile(file(SNAPSHOT_PREFIX, snapshot, SNAPSHOT_SUFFIX), sink, false);
+            }
+
+            List<Long> segments = numbers(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+            for (int i = 0; i < segments.size(); i++) {
+                long number = segments.get(i);
+                if (number >= Math.max(snapshot, 0)) {
+                    // A torn write can only be at the end of the segment that was open during a crash
+                    recovered += readFile(file(SEGMENT_PREFIX, number, SEGMENT_SUFFIX), sink, i == segments.size() - 1);
+                }
+            }
+
+            long last = segments.isEmpty() ? Math.max(snapshot, 0) : segments.get(segments.size() - 1) + 1;
+            openSegment(Math.max(last, snapshot));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot recover journal from " + directory, e);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        gameMetrics.recordJournalRecovery(recovered, elapsed);
+        logger.info("Recovered {} game states from journal {} in {} ms", recovered, directory, elapsed / 1_000_000);
+
+        writer.start();
+        return recovered;
+    }
+
+    /**
+     * Queues a state for the next group commit. The future completes once the record is written
+     * (and synced, if fsync is enabled).
+     */
+    public CompletableFuture<Void> append(GameState gameState) {
+        return enqueue(new Command(encode(gameState), null));
+    }
+
+    /**
+     * Rolls to a new segment and writes a snapshot of {@code states} for it. The caller must read the
+     * states after this method has rolled the segment, which {@code stateSupplier} guarantees.
+     */
+    public void snapshot(Supplier<Collection<GameState>> stateSupplier) {
+        CompletableFuture<Long> roll = new CompletableFuture<>();
+        enqueue(new Command(null, roll)).join();
+        long number = roll.join();
+
+        Path target = file(SNAPSHOT_PREFIX, number, SNAPSHOT_SUFFIX);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        long count = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temp), 1 << 16))) {
+            for (GameState gameState : stateSupplier.get()) {
+                writeRecord(out, encode(gameState));
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write snapshot " + target, e);
+        }
+
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            deleteBefore(number);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot publish snapshot " + target, e);
+        }
+        logger.info("Wrote journal snapshot {} with {} game states", target.getFileName(), count);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        // A poison pill rather than an interrupt: interrupting a thread in FileChannel I/O closes the channel
+        queue.add(Command.STOP);
+        try {
+            writer.join(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            // Still writing to the segment, which it closes itself once it stops
+            logger.warn("Journal writer did not stop within 5 seconds, leaving the open segment to it");
+            return;
+        }
+        // Also covers a journal closed before recover() started the writer
+        failQueued();
+        closeSegment();
+    }
+
+    private CompletableFuture<Void> enqueue(Command command) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Journal is closed"));
+        }
+        queue.add(command);
+        if (writerStopped) {
+            // Added after the writer's last take; nobody else will complete it
+            failQueued();
+        }
+        return command.done;
+    }
+
+    /** Fails every command still queued, so that no caller waits on a writer that has stopped. */
+    private void failQueued() {
+        writerStopped = true;
+        List<Command> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        IllegalStateException closed = new IllegalStateException("Journal is closed");
+        for (Command command : remaining) {
+            if (command.roll != null) {
+                command.roll.completeExceptionally(closed);
+            }
+            command.done.completeExceptionally(closed);
+        }
+    }
+
+    private void writeLoop() {
+        try {
+            writeUntilStopped();
+        } finally {
+            failQueued();
+            try {
+                closeSegment();
+            } catch (IOException e) {
+                logger.error("Failed to close journal segment {}", segmentNumber, e);
+            }
+        }
+    }
+
+    private void writeUntilStopped() {
+        List<Command> group = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+        boolean stopping = false;
+
+        while (!stopping) {
+            try {
+                group.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(group, MAX_GROUP_SIZE - group.size());
+            stopping = group.remove(Command.STOP);
+
+            try {
+                buffer = writeGroup(group, buffer);
+                group.forEach(command -> command.done.complete(null));
+            } catch (Exception e) {
+                logger.error("Failed to write {} journal records", group.size(), e);
+                group.forEach(command -> command.done.completeExceptionally(e));
+            }
+            group.clear();
+        }
+    }
+
+    private ByteBuffer writeGroup(List<Command> group, ByteBuffer buffer) throws IOException {
+        long start = System.nanoTime();
+        int records = 0;
+        buffer.clear();
+
+        for (Command command : group) {
+            if (command.roll != null) {
+                flushBuffer(buffer);
+                openSegment(segmentNumber + 1);
+                command.roll.complete(segmentNumber);
+                continue;
+            }
+            if (buffer.remaining() < command.payload.length + RECORD_HEADER_BYTES) {
+                flushBuffer(buffer);
+                if (buffer.capacity() < command.payload.length + RECORD_HEADER_BYTES) {
+                    buffer = ByteBuffer.allocateDirect(command.payload.length + RECORD_HEADER_BYTES);
+                }
+            }
+            buffer.putInt(command.payload.length);
+            buffer.putInt(crc(command.payload));
+            buffer.put(command.payload);
+            records++;
+        }
+        flushBuffer(buffer);
+
+        if (fsync) {
+            segment.force(false);
+        }
+        if (segment.size() >= segmentBytes) {
+            openSegment(segmentNumber + 1);
+        }
+        if (records > 0) {
+            gameMetrics.recordJournalCommit(records, System.nanoTime() - start);
+        }
+        return buffer;
+    }
+
+    private void flushBuffer(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            segment.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void closeSegment() throws IOException {
+        if (segment != null && segment.isOpen()) {
+            segment.force(true);
+            segment.close();
+        }
+    }
+
+    private void openSegment(long number) throws IOException {
+        if (segment != null) {
+            segment.force(true);
+            segment.close();
+        }
+        segmentNumber = number;
+        segment = FileChannel.open(file(SEGMENT_PREFIX, number, SEGMENT_SUFFIX),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private long readFile(Path path, Consumer<GameState> sink, boolean truncateTornTail) throws IOException {
+        long count = 0;
+        long validBytes = 0;
+        try (InputStream stream = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream, 1 << 16))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                int expectedCrc = in.readInt();
+                if (length <= 0 || length > 1 << 16) {
+                    throw new IOException("Corrupt record length " + length);
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                if (crc(payload) != expectedCrc) {
+                    throw new IOException("CRC mismatch");
+                }
+                sink.accept(decode(payload));
+                validBytes += RECORD_HEADER_BYTES + length;
+                count++;
+            }
+        } catch (IOException e) {
+            if (!truncateTornTail) {
+                throw new IOException("Corrupt journal file " + path + " after " + count + " records", e);
+            }
+            logger.warn("Truncating torn tail of {} after {} records: {}", path.getFileName(), count, e.getMessage());
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(validBytes);
+            }
+        }
+        return count;
+    }
+
+    private void deleteBefore(long number) throws IOException {
+        for (long segmentNumber : numbers(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (segmentNumber < number) {
+                Files.deleteIfExists(file(SEGMENT_PREFIX, segmentNumber, SEGMENT_SUFFIX));
+            }
+        }
+        for (long snapshotNumber : numbers(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (snapshotNumber < number) {
+                Files.deleteIfExists(file(SNAPSHOT_PREFIX, snapshotNumber, SNAPSHOT_SUFFIX));
+            }
+        }
+    }
+
+    private long latestNumber(String prefix, String suffix) throws IOException {
+        List<Long> numbers = numbers(prefix, suffix);
+        return numbers.isEmpty() ? -1 : numbers.get(numbers.size() - 1);
+    }
+
+    private List<Long> numbers(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path file(String prefix, long number, String suffix) {
+        return directory.resolve(String.format("%s%020d%s", prefix, number, suffix));
+    }
+
+    private static void writeRecord(DataOutputStream out, byte[] payload) throws IOException {
+        out.writeInt(payload.length);
+        out.writeInt(crc(payload));
+        out.write(payload);
+    }
+
+    private static byte[] encode(GameState gameState) {
+        byte[] id = gameState.gameId().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.allocate(2 + id.length + 2);
+        payload.putShort((short) id.length);
+        payload.put(id);
+        payload.put((byte) gameState.score().playerAPoints());
+        payload.put((byte) gameState.score().playerBPoints());
+        return payload.array();
+    }
+
+    private static GameState decode(byte[] bytes) {
+        ByteBuffer payload = ByteBuffer.wrap(bytes);
+        byte[] id = new byte[payload.getShort()];
+        payload.get(id);
+        Score score = new Score(payload.get(), payload.get());
+        return GameState.of(new String(id, StandardCharsets.UTF_8), ScoreState.of(score));
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private record Command(byte[] payload, CompletableFuture<Long> roll, CompletableFuture<Void> done) {
+        static final Command STOP = new Command(null, null);
+
+        Command(byte[] payload, CompletableFuture<Long> roll) {
+            this(payload, roll, new CompletableFuture<>());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.tennis.infrastructure.adapter;
 
+import com.tennis.domain.exception.GameAlreadyFinishedException;
+import com.tennis.domain.exception.GameNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -60,6 +62,35 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(GameNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleGameNotFoundException(GameNotFoundException ex) {
+
+        logger.warn("Game not found: {}", ex.getMessage());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put(TIMESTAMP, LocalDateTime.now());
+        response.put(STATUS, HttpStatus.NOT_FOUND.value());
+        response.put(ERROR, "Not Found");
+        response.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(GameAlreadyFinishedException.class)
+    public ResponseEntity<Map<String, Object>> handleGameAlreadyFinishedException(
+            GameAlreadyFinishedException ex) {
+
+        logger.warn("Point rejected: {}", ex.getMessage());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put(TIMESTAMP, LocalDateTime.now());
+        response.put(STATUS, HttpStatus.CONFLICT.value());
+        response.put(ERROR, "Conflict");
+        response.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
 
@@ -1,27 +1,163 @@
 package com.tennis.infrastructure.adapter;
 
 import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.port.GameArchive;
 import com.tennis.domain.port.GameRepository;
-import org.springframework.stereotype.Repository;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
 
-@Repository
-public class InMemoryGameRepository implements GameRepository {
+/**
+ * Heap-backed repository. Counts and the finished-game index are maintained incrementally by
+ * {@link #save}, so the statistics queries are O(1) and can be polled frequently.
+ * <p>
+ * Memory is bounded by an {@link EvictionPolicy}: once a limit is exceeded, or a finished game
+ * outlives its time-to-live, the oldest finished games are handed to the optional {@link GameArchive}
+ * and removed. Games still in progress are never evicted. The counts are lifetime totals and are not
+ * reduced by eviction; {@link #findFinishedGames()} only returns games that are still resident.
+ * The id and winner of each evicted game are remembered, so saving it again, as a journal or state
+ * topic replay does, replaces its counted result instead of counting a new game. They also act as
+ * tombstones for {@link #saveIfAbsent}, which does not bring an evicted game back.
+ * A game the archive fails to take stays resident and is tried again after {@link #ARCHIVE_RETRY_DELAY};
+ * eviction never fails the save that triggered it.
+ */
+public class InMemoryGameRepository implements GameRepository, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryGameRepository.class);
+
+    // Rough heap cost of a stored game: map node, record, Score and the gameId string header
+    static final int ENTRY_OVERHEAD_BYTES = 160;
+    static final Duration ARCHIVE_RETRY_DELAY = Duration.ofSeconds(1);
 
     private final Map<String, GameState> games = new ConcurrentHashMap<>();
+    private final Map<String, GameState> finishedGames = new ConcurrentHashMap<>();
+    private final LongAdder totalGames = new LongAdder();
+    private final LongAdder finishedGameCount = new LongAdder();
+    private final Map<Player, LongAdder> winsByPlayer = new EnumMap<>(Player.class);
+    // Winners of evicted games, still included in the counts above
+    private final Map<String, Player> evictedWinners = new ConcurrentHashMap<>();
+
+    private final EvictionPolicy evictionPolicy;
+    private final GameArchive archive;
+    private final GameMetrics gameMetrics;
+    private final LongSupplier nanoClock;
+    private final Queue<FinishedEntry> finishedOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger residentEntries = new AtomicInteger();
+    private final AtomicLong residentBytes = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    // Guarded by evictionLock
+    private boolean archiveFailing;
+    private long archiveRetryAtNanos;
+    private final ScheduledExecutorService sweeper;
+
+    public InMemoryGameRepository(GameMetrics gameMetrics) {
+        this(EvictionPolicy.unbounded(), null, gameMetrics);
+    }
+
+    public InMemoryGameRepository(EvictionPolicy evictionPolicy, GameArchive archive, GameMetrics gameMetrics) {
+        this(evictionPolicy, archive, gameMetrics, System::nanoTime);
+    }
+
+    InMemoryGameRepository(EvictionPolicy evictionPolicy,
+                           GameArchive archive,
+                           GameMetrics gameMetrics,
+                           LongSupplier nanoClock) {
+        this.evictionPolicy = evictionPolicy;
+        this.archive = archive;
+        this.gameMetrics = gameMetrics;
+        this.nanoClock = nanoClock;
+
+        for (Player player : Player.values()) {
+            winsByPlayer.put(player, new LongAdder());
+        }
+
+        if (evictionPolicy.hasTtl()) {
+            // Sweeps expired games while no saves are coming in to trigger eviction
+            long sweepMillis = Math.max(1, evictionPolicy.finishedTtl().toMillis() / 2);
+            this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "game-repository-sweeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            sweeper.scheduleWithFixedDelay(this::evictQuietly, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.sweeper = null;
+        }
+    }
 
     @Override
     public void save(GameState gameState) {
-        games.put(gameState.gameId(), gameState);
+        // compute() serialises updates per game, so the indices always follow the stored state
+        games.compute(gameState.gameId(), (gameId, previous) -> {
+            updateIndices(previous, gameState);
+            return gameState;
+        });
+
+        if (evictionPolicy.isBounded()) {
+            evictIfNeeded();
+        }
+    }
+
+    @Override
+    public boolean replace(GameState expected, GameState updated) {
+        AtomicBoolean replaced = new AtomicBoolean();
+        games.computeIfPresent(expected.gameId(), (gameId, current) -> {
+            if (!current.equals(expected)) {
+                return current;
+            }
+            updateIndices(current, updated);
+            replaced.set(true);
+            return updated;
+        });
+
+        if (replaced.get() && evictionPolicy.isBounded()) {
+            evictIfNeeded();
+        }
+        return replaced.get();
+    }
+
+    @Override
+    public boolean saveIfAbsent(GameState gameState) {
+        AtomicBoolean saved = new AtomicBoolean();
+        games.computeIfAbsent(gameState.gameId(), gameId -> {
+            if (evictedWinners.containsKey(gameId)) {
+                return null;
+            }
+            updateIndices(null, gameState);
+            saved.set(true);
+            return gameState;
+        });
+
+        if (saved.get() && evictionPolicy.isBounded()) {
+            evictIfNeeded();
+        }
+        return saved.get();
     }
 
     @Override
     public Optional<GameState> findById(String gameId) {
-        return Optional.ofNullable(games.get(gameId));
+        GameState gameState = games.get(gameId);
+        gameMetrics.recordRepositoryLookup(gameState != null);
+        return Optional.ofNullable(gameState);
     }
 
     @Override
@@ -31,35 +167,168 @@ public class InMemoryGameRepository implements GameRepository {
 
     @Override
     public List<GameState> findFinishedGames() {
-        return games.values().stream()
-                .filter(GameState::isFinished)
-                .toList();
+        return List.copyOf(finishedGames.values());
     }
 
     @Override
     public long countTotalGames() {
-        return games.values().stream()
-                .map(GameState::gameId)
-                .distinct()
-                .count();
+        return totalGames.sum();
     }
 
     @Override
     public long countFinishedGames() {
-        return games.values().stream()
-                .filter(GameState::isFinished)
-                .map(GameState::gameId)
-                .distinct()
-                .count();
+        return finishedGameCount.sum();
     }
 
     @Override
     public long countGamesByWinner(String winner) {
-        return games.values().stream()
-                .filter(GameState::isFinished)
-                .filter(game -> winner.equals(game.winner() != null ? game.winner().name() : null))
-                .map(GameState::gameId)
-                .distinct()
-                .count();
-    }
-}
\ No newline at end of file
+        for (Player player : Player.values()) {
+            if (player.name().equals(winner)) {
+                return winsByPlayer.get(player).sum();
+            }
+        }
+        return 0;
+    }
+
+    public int residentEntries() {
+        return residentEntries.get();
+    }
+
+    public long residentBytes() {
+        return residentBytes.get();
+    }
+
+    /**
+     * Evicts finished games, oldest first, while a limit is exceeded or the oldest has expired.
+     * Only one thread evicts at a time; concurrent callers return immediately.
+     */
+    public void evictIfNeeded() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            if (archiveFailing && nanoClock.getAsLong() - archiveRetryAtNanos < 0) {
+                return;
+            }
+            FinishedEntry oldest;
+            while ((oldest = finishedOrder.peek()) != null) {
+                String reason = evictionReason(oldest);
+                if (reason == null) {
+                    break;
+                }
+                if (!evict(oldest.gameId(), reason)) {
+                    // Left at the head of the queue for the next attempt
+                    archiveFailing = true;
+                    archiveRetryAtNanos = nanoClock.getAsLong() + ARCHIVE_RETRY_DELAY.toNanos();
+                    break;
+                }
+                archiveFailing = false;
+                finishedOrder.poll();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (sweeper != null) {
+            sweeper.shutdown();
+        }
+    }
+
+    private String evictionReason(FinishedEntry oldest) {
+        if (evictionPolicy.maxEntries() > 0 && residentEntries.get() > evictionPolicy.maxEntries()) {
+            return "size";
+        }
+        if (evictionPolicy.maxBytes() > 0 && residentBytes.get() > evictionPolicy.maxBytes()) {
+            return "bytes";
+        }
+        if (evictionPolicy.hasTtl()
+                && nanoClock.getAsLong() - oldest.finishedAtNanos() >= evictionPolicy.finishedTtl().toNanos()) {
+            return "ttl";
+        }
+        return null;
+    }
+
+    /**
+     * Archives the game outside the map, then removes it unless it changed in the meantime, in which case
+     * its new state is archived instead.
+     *
+     * @return false when the archive failed and the game stays resident
+     */
+    private boolean evict(String gameId, String reason) {
+        while (true) {
+            GameState current = games.get(gameId);
+            if (current == null || !current.isFinished()) {
+                return true;
+            }
+            if (archive != null) {
+                try {
+                    archive.archive(current);
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to archive game {}, keeping it in memory", gameId, e);
+                    gameMetrics.incrementRepositoryArchiveFailures();
+                    return false;
+                }
+            }
+            AtomicBoolean evicted = new AtomicBoolean();
+            games.computeIfPresent(gameId, (id, stored) -> {
+                if (stored != current) {
+                    return stored;
+                }
+                finishedGames.remove(id);
+                evictedWinners.put(id, current.winner());
+                residentEntries.decrementAndGet();
+                residentBytes.addAndGet(-estimateBytes(current));
+                gameMetrics.incrementRepositoryEvictions(reason);
+                evicted.set(true);
+                return null;
+            });
+            if (evicted.get()) {
+                return true;
+            }
+        }
+    }
+
+    private void evictQuietly() {
+        try {
+            evictIfNeeded();
+        } catch (Exception e) {
+            logger.error("Failed to evict finished games", e);
+        }
+    }
+
+    private void updateIndices(GameState previous, GameState current) {
+        if (previous == null) {
+            Player evictedWinner = evictedWinners.remove(current.gameId());
+            if (evictedWinner == null) {
+                totalGames.increment();
+            } else {
+                finishedGameCount.decrement();
+                winsByPlayer.get(evictedWinner).decrement();
+            }
+            residentEntries.incrementAndGet();
+            residentBytes.addAndGet(estimateBytes(current));
+        } else if (previous.isFinished()) {
+            finishedGameCount.decrement();
+            winsByPlayer.get(previous.winner()).decrement();
+            finishedGames.remove(previous.gameId());
+        }
+
+        if (current.isFinished()) {
+            finishedGameCount.increment();
+            winsByPlayer.get(current.winner()).increment();
+            finishedGames.put(current.gameId(), current);
+            if ((previous == null || !previous.isFinished()) && evictionPolicy.isBounded()) {
+                finishedOrder.add(new FinishedEntry(current.gameId(), nanoClock.getAsLong()));
+            }
+        }
+    }
+
+    private static long estimateBytes(GameState gameState) {
+        return ENTRY_OVERHEAD_BYTES + 2L * gameState.gameId().length();
+    }
+
+    private record FinishedEntry(String gameId, long finishedAtNanos) {}
+}
@@ -0,0 +1,208 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.port.GameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Makes a {@link GameRepository} durable by recording every saved state in a {@link GameJournal}.
+ * <p>
+ * On construction the delegate is rebuilt from the journal. Saves are applied to the delegate and then
+ * journaled; with {@code awaitCommit} they return only once their group commit is on disk. Snapshots are
+ * taken every {@code snapshotInterval} and on close, so recovery only replays a short tail.
+ * <p>
+ * Writes to the same game are striped onto a lock held while the state is applied and queued, so the
+ * journal records a game's states in the order the delegate applied them. Waiting for the commit
+ * happens outside the lock.
+ */
+public class JournaledGameRepository implements GameRepository, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournaledGameRepository.class);
+    private static final int RECOVERY_BATCH_SIZE = 10_000;
+    private static final int LOCK_STRIPES = 64;
+
+    private final GameRepository delegate;
+    private final GameJournal journal;
+    private final boolean awaitCommit;
+    private final ScheduledExecutorService snapshotter;
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+
+    public JournaledGameRepository(GameRepository delegate,
+                                   GameJournal journal,
+                                   boolean awaitCommit,
+                                   Duration snapshotInterval) {
+        this.delegate = delegate;
+        this.journal = journal;
+        this.awaitCommit = awaitCommit;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+
+        List<GameState> batch = new ArrayList<>(RECOVERY_BATCH_SIZE);
+        journal.recover(gameState -> {
+            batch.add(gameState);
+            if (batch.size() == RECOVERY_BATCH_SIZE) {
+                delegate.saveAll(batch);
+                batch.clear();
+            }
+        });
+        delegate.saveAll(batch);
+
+        this.snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-journal-snapshotter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = snapshotInterval.toMillis();
+        snapshotter.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void save(GameState gameState) {
+        awaitIfSync(saveAndAppend(gameState));
+    }
+
+    @Override
+    public void saveAll(Collection<GameState> gameStates) {
+        CompletableFuture<?>[] commits = gameStates.stream()
+                .map(this::saveAndAppend)
+                .toArray(CompletableFuture[]::new);
+        awaitIfSync(CompletableFuture.allOf(commits));
+    }
+
+    @Override
+    public boolean replace(GameState expected, GameState updated) {
+        ReentrantLock lock = stripeFor(expected.gameId());
+        CompletableFuture<Void> commit;
+        lock.lock();
+        try {
+            if (!delegate.replace(expected, updated)) {
+                return false;
+            }
+            commit = journal.append(updated);
+        } finally {
+            lock.unlock();
+        }
+        awaitIfSync(commit);
+        return true;
+    }
+
+    @Override
+    public Optional<GameState> findById(String gameId) {
+        return delegate.findById(gameId);
+    }
+
+    @Override
+    public List<GameState> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<GameState> findFinishedGames() {
+        return delegate.findFinishedGames();
+    }
+
+    @Override
+    public long countTotalGames() {
+        return delegate.countTotalGames();
+    }
+
+    @Override
+    public long countFinishedGames() {
+        return delegate.countFinishedGames();
+    }
+
+    @Override
+    public long countGamesByWinner(String winner) {
+        return delegate.countGamesByWinner(winner);
+    }
+
+    public void snapshot() {
+        journal.snapshot(delegate::findAll);
+    }
+
+    @Override
+    public void close() throws IOException {
+        snapshotter.shutdown();
+        snapshotQuietly();
+        journal.close();
+    }
+
+    @Override
+    public boolean saveIfAbsent(GameState gameState) {
+        CompletableFuture<Void> commit = saveIfAbsentAndAppend(gameState);
+        if (commit == null) {
+            return false;
+        }
+        awaitIfSync(commit);
+        return true;
+    }
+
+    @Override
+    public int saveAllIfAbsent(Collection<GameState> gameStates) {
+        List<CompletableFuture<Void>> commits = new ArrayList<>();
+        for (GameState gameState : gameStates) {
+            CompletableFuture<Void> commit = saveIfAbsentAndAppend(gameState);
+            if (commit != null) {
+                commits.add(commit);
+            }
+        }
+        awaitIfSync(CompletableFuture.allOf(commits.toArray(CompletableFuture[]::new)));
+        return commits.size();
+    }
+
+    private CompletableFuture<Void> saveAndAppend(GameState gameState) {
+        ReentrantLock lock = stripeFor(gameState.gameId());
+        lock.lock();
+        try {
+            delegate.save(gameState);
+            return journal.append(gameState);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the journal commit, or {@code null} if the game was present
+     */
+    private CompletableFuture<Void> saveIfAbsentAndAppend(GameState gameState) {
+        ReentrantLock lock = stripeFor(gameState.gameId());
+        lock.lock();
+        try {
+            return delegate.saveIfAbsent(gameState) ? journal.append(gameState) : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitIfSync(CompletableFuture<Void> commit) {
+        if (awaitCommit) {
+            commit.join();
+        }
+    }
+
+    private ReentrantLock stripeFor(String gameId) {
+        return stripes[(gameId.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES];
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (Exception e) {
+            logger.error("Failed to snapshot game journal", e);
+        }
+    }
+}
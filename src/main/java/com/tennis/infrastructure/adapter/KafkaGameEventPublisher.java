@@ -6,25 +6,89 @@ import com.tennis.avro.GameEvent;
 import com.tennis.domain.model.GameState;
 import com.tennis.domain.model.Player;
 import com.tennis.domain.port.GameEventPublisher;
+import com.tennis.infrastructure.config.EventPublishingConfig;
+import com.tennis.infrastructure.messaging.GameSummaryCodec;
+import com.tennis.infrastructure.monitoring.GameMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Publishes game events to Kafka without letting a slow or unavailable broker reach the caller.
+ * <p>
+ * After repeated failed sends a {@link PublishCircuitBreaker} opens and events go straight to an
+ * {@link EventSpool} on local disk, as do the events whose send fails. A background thread republishes
+ * the spool in order and at a limited rate once the breaker lets requests through again.
+ * <p>
+ * A game's events keep their order across a tripped breaker: once anything is spooled, new events
+ * queue behind it. A single send that fails while the breaker is still closed is the exception. It is
+ * spooled when the failure is reported, and by then later events of the same game may already have
+ * been delivered, so that event arrives after them. An event the spool cannot take either is logged
+ * and counted in {@code tennis.events.dropped} with reason {@code spool}.
+ */
 @Component
 @Profile("kafka")
-public class KafkaGameEventPublisher implements GameEventPublisher {
+@Qualifier(EventPublishingConfig.DIRECT_PUBLISHER)
+public class KafkaGameEventPublisher implements GameEventPublisher, AutoCloseable {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaGameEventPublisher.class);
     private static final String TOPIC = "tennis-game-events";
+    private static final Duration DRAIN_SEND_TIMEOUT = Duration.ofSeconds(30);
+    private static final EventMetadata METADATA = new EventMetadata("1.0.0", "tennis-scoring-system");
 
     private final KafkaTemplate<String, GameEvent> kafkaTemplate;
+    private final EventSpool spool;
+    private final PublishCircuitBreaker circuitBreaker;
+    private final GameMetrics gameMetrics;
+    private final boolean compactSummaries;
+    private final int drainBatchSize;
+    private final ScheduledExecutorService drainer;
+    private final ReentrantLock drainLock = new ReentrantLock();
 
-    public KafkaGameEventPublisher(KafkaTemplate<String, GameEvent> kafkaTemplate) {
+    /**
+     * @param compactSummaries send games scored in one go as a single {@code GAME_SUMMARY} event; every
+     *                         consumer of the topic must understand that event type before this is enabled
+     * @param drainRate        spooled events republished per second once the broker is reachable; must
+     *                         exceed the rate of new events, which queue behind the spool until it is empty
+     */
+    public KafkaGameEventPublisher(KafkaTemplate<String, GameEvent> kafkaTemplate,
+                                   EventSpool spool,
+                                   PublishCircuitBreaker circuitBreaker,
+                                   GameMetrics gameMetrics,
+                                   @Value("${tennis.events.kafka.compact-summaries:false}") boolean compactSummaries,
+                                   @Value("${tennis.events.kafka.spool.drain-rate:5000}") int drainRate,
+                                   @Value("${tennis.events.kafka.spool.drain-interval:100ms}") Duration drainInterval) {
         this.kafkaTemplate = kafkaTemplate;
+        this.spool = spool;
+        this.circuitBreaker = circuitBreaker;
+        this.gameMetrics = gameMetrics;
+        this.compactSummaries = compactSummaries;
+        this.drainBatchSize = (int) Math.max(1, drainRate * drainInterval.toMillis() / 1000);
+
+        gameMetrics.registerEventSpoolDepth(spool::pending);
+        gameMetrics.registerPublishCircuitState(() -> circuitBreaker.state().ordinal());
+        this.drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-spool-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = drainInterval.toMillis();
+        drainer.scheduleWithFixedDelay(this::drainQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
     }
 
     @Override
@@ -43,40 +107,147 @@ public class KafkaGameEventPublisher implements GameEventPublisher {
                 gameState.gameId(), gameState.winner());
     }
 
-    private GameEvent createGameEvent(GameState gameState, EventType eventType, String player) {
-        EventMetadata metadata = EventMetadata.newBuilder()
-                .setVersion("1.0.0")
-                .setSource("tennis-scoring-system")
-                .build();
-
-        return GameEvent.newBuilder()
-                .setGameId(gameState.gameId())
-                .setEventType(eventType)
-                .setPlayer(player)
-                .setPlayerAScore(gameState.score().playerAPoints())
-                .setPlayerBScore(gameState.score().playerBPoints())
-                .setDisplayScore(gameState.displayScore())
-                .setIsFinished(gameState.isFinished())
-                .setWinner(gameState.winner() != null ? gameState.winner().name() : null)
-                .setTimestamp(Instant.now().toEpochMilli())
-                .setMetadata(metadata)
-                .build();
+    @Override
+    public void publishGameSummary(GameState gameState, List<Player> balls) {
+        if (!compactSummaries) {
+            GameEventPublisher.super.publishGameSummary(gameState, balls);
+            return;
+        }
+        GameEvent event = createGameEvent(gameState, EventType.GAME_SUMMARY, null);
+        event.setPointBitmap(GameSummaryCodec.pack(balls));
+        event.setPointCount(balls.size());
+        publishEvent(gameState.gameId(), event);
+        logger.info("Published GAME_SUMMARY event for game: {}, points: {}, winner: {}",
+                gameState.gameId(), balls.size(), gameState.winner());
     }
 
+    /**
+     * Builds the event for a game state through the all-args constructor: the builder validates and
+     * deep-copies every field, including the defaulted ones, on each call. All events share one
+     * {@link EventMetadata} instance, which must therefore never be modified.
+     */
+    public static GameEvent createGameEvent(GameState gameState, EventType eventType, String player) {
+        return new GameEvent(
+                gameState.gameId(),
+                eventType,
+                player,
+                gameState.score().playerAPoints(),
+                gameState.score().playerBPoints(),
+                gameState.displayScore(),
+                gameState.isFinished(),
+                gameState.winner() != null ? gameState.winner().name() : null,
+                System.currentTimeMillis(),
+                METADATA,
+                null,
+                0);
+    }
+
+    /**
+     * Sends directly while the breaker is closed and nothing is spooled; otherwise appends to the spool,
+     * behind the events already waiting there.
+     */
     private void publishEvent(String gameId, GameEvent event) {
+        if (!spool.isEmpty() || !circuitBreaker.allowRequest()) {
+            spool(event);
+            return;
+        }
         try {
             kafkaTemplate.send(TOPIC, gameId, event)
                     .whenComplete((result, ex) -> {
                         if (ex != null) {
-                            logger.error("Failed to publish event for game: {}", gameId, ex);
+                            circuitBreaker.recordFailure();
+                            logger.warn("Failed to publish event for game: {}, spooling it", gameId, ex);
+                            spool(event);
                         } else {
+                            circuitBreaker.recordSuccess();
                             logger.debug("Successfully published event for game: {} to partition: {}",
                                     gameId, result.getRecordMetadata().partition());
                         }
                     });
         } catch (Exception e) {
-            logger.error("Error publishing event for game: {}", gameId, e);
+            circuitBreaker.recordFailure();
+            logger.warn("Error publishing event for game: {}, spooling it", gameId, e);
+            spool(event);
         }
     }
-}
 
+    /**
+     * Also runs in send callbacks, where an exception would be swallowed by the future, so a failed
+     * append is logged and counted here.
+     */
+    private void spool(GameEvent event) {
+        try {
+            spool.append(event);
+            gameMetrics.incrementEventsSpooledToDisk();
+        } catch (RuntimeException e) {
+            logger.error("Failed to spool event for game: {}, dropping it", event.getGameId(), e);
+            gameMetrics.incrementEventsDropped("spool");
+        }
+    }
+
+    /**
+     * Republishes spooled events in order, at most {@code drainBatchSize} per run. A batch is sent as a
+     * whole and committed up to its first failure; events after it are sent again by a later run, so a
+     * spooled event is published at least once.
+     */
+    void drainSpool() {
+        // Waits on the broker while holding the lock, which must not pin a virtual thread's carrier
+        drainLock.lock();
+        try {
+            if (spool.isEmpty() || !circuitBreaker.allowRequest()) {
+                return;
+            }
+            List<EventSpool.Entry> entries = spool.peek(drainBatchSize);
+            List<CompletableFuture<?>> sends = new ArrayList<>(entries.size());
+            try {
+                for (EventSpool.Entry entry : entries) {
+                    sends.add(kafkaTemplate.send(TOPIC, entry.event().getGameId(), entry.event()));
+                }
+            } catch (Exception e) {
+                logger.warn("Error republishing spooled event", e);
+            }
+
+            int published = 0;
+            try {
+                for (CompletableFuture<?> send : sends) {
+                    send.get(DRAIN_SEND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                    published++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                logger.warn("Stopped draining event spool after {} of {} events", published, entries.size(), e);
+            }
+
+            if (published == entries.size()) {
+                circuitBreaker.recordSuccess();
+            } else {
+                circuitBreaker.recordFailure();
+            }
+            if (published > 0) {
+                spool.commit(entries.get(published - 1).nextPosition());
+                gameMetrics.incrementEventsDrained(published);
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private void drainQuietly() {
+        try {
+            drainSpool();
+        } catch (Exception e) {
+            logger.error("Error draining event spool", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        drainer.shutdown();
+        try {
+            drainer.awaitTermination(DRAIN_SEND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.application.dto.LiveGameResponse;
+import com.tennis.application.usecase.LiveGameUseCase;
+import com.tennis.infrastructure.messaging.LiveScoreBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/tennis")
+@CrossOrigin(origins = "*")
+@Tag(name = "Live Scores", description = "Push live score updates to scoreboards")
+public class LiveScoreController {
+
+    private final LiveScoreBroadcaster broadcaster;
+    private final LiveGameUseCase liveGameUseCase;
+    private final Duration streamTimeout;
+
+    public LiveScoreController(LiveScoreBroadcaster broadcaster,
+                               LiveGameUseCase liveGameUseCase,
+                               @Value("${tennis.live.stream-timeout:30m}") Duration streamTimeout) {
+        this.broadcaster = broadcaster;
+        this.liveGameUseCase = liveGameUseCase;
+        this.streamTimeout = streamTimeout;
+    }
+
+    @GetMapping(path = "/games/{gameId}/scores/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream live scores",
+            description = "Server-Sent Events stream of a game's score. The current score is sent first, then every "
+                    + "update; a client that falls behind only receives the latest score. The stream completes "
+                    + "after the winning point."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stream of 'score' events",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = LiveGameResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "Game not found")
+    })
+    public SseEmitter streamScores(
+            @Parameter(description = "Game identifier returned when the game was started", required = true)
+            @PathVariable String gameId) {
+
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        LiveScoreBroadcaster.Subscription subscription =
+                broadcaster.subscribe(gameId, new SseSubscriber(emitter), () -> liveGameUseCase.getGame(gameId));
+
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+
+    private record SseSubscriber(SseEmitter emitter) implements LiveScoreBroadcaster.Subscriber {
+
+        @Override
+        public void send(LiveGameResponse update) throws Exception {
+            emitter.send(SseEmitter.event().name("score").data(update, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void complete() {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.Score;
+import com.tennis.domain.model.ScoreState;
+import com.tennis.domain.port.GameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Off-heap repository that keeps every game in a fixed-width slot of a memory-mapped file.
+ * <p>
+ * The file is an open-addressing hash table split into {@value #SEGMENTS} segments, each with its own
+ * lock, counters and linear-probing region. The table itself is the index, so reopening the file after
+ * a restart needs no rebuild. The counters are written separately from the slots and could be left
+ * behind by a crash, so they are recomputed from the slots in one sequential pass on open. Game ids must
+ * be UUIDs; they are stored as two longs.
+ * <p>
+ * File layout: a {@value #FILE_HEADER_BYTES}-byte file header, one {@value #SEGMENT_HEADER_BYTES}-byte
+ * header per segment ({@code size, finished, winsA, winsB}), then the slots:
+ * <pre>
+ *  0  long  id (most significant bits)
+ *  8  long  id (least significant bits)
+ * 16  byte  used flag
+ * 17  byte  player A points
+ * 18  byte  player B points
+ * 19  byte  flags: bit 0 finished, bits 1-2 winner (1 = A, 2 = B)
+ * </pre>
+ * Writes land in the page cache and survive a process crash; {@link #close()} forces them to disk.
+ */
+public class MappedFileGameRepository implements GameRepository, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedFileGameRepository.class);
+
+    static final int SEGMENTS = 64;
+    static final int SLOT_BYTES = 32;
+    static final int FILE_HEADER_BYTES = 64;
+    static final int SEGMENT_HEADER_BYTES = 32;
+    static final long MAGIC = 0x544E_5347_414D_4531L; // "TNSGAME1"
+    static final int VERSION = 1;
+    static final double MAX_LOAD_FACTOR = 0.9;
+
+    private static final int SLOT_USED = 16;
+    private static final int SLOT_A_POINTS = 17;
+    private static final int SLOT_B_POINTS = 18;
+    private static final int SLOT_FLAGS = 19;
+    private static final int FLAG_FINISHED = 1;
+    private static final int WINNER_SHIFT = 1;
+
+    private static final int SEGMENT_SIZE = 0;
+    private static final int SEGMENT_FINISHED = 8;
+    private static final int SEGMENT_WINS_A = 16;
+    private static final int SEGMENT_WINS_B = 24;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int slotsPerSegment;
+    private final int maxEntriesPerSegment;
+    private final int slotsOffset;
+    private final ReentrantLock[] locks = new ReentrantLock[SEGMENTS];
+
+    /**
+     * Opens or creates the repository file.
+     *
+     * @param capacity total number of slots; rounded up to a power of two
+     */
+    public MappedFileGameRepository(Path path, int capacity) {
+        this.path = path;
+        this.slotsPerSegment = Math.max(1, Integer.highestOneBit(Math.max(1, capacity - 1) / SEGMENTS) << 1);
+        this.maxEntriesPerSegment = Math.max(1, (int) (slotsPerSegment * MAX_LOAD_FACTOR));
+        this.slotsOffset = FILE_HEADER_BYTES + SEGMENTS * SEGMENT_HEADER_BYTES;
+
+        long fileSize = slotsOffset + (long) SEGMENTS * slotsPerSegment * SLOT_BYTES;
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Capacity too large for a single mapping: " + capacity);
+        }
+        for (int i = 0; i < SEGMENTS; i++) {
+            locks[i] = new ReentrantLock();
+        }
+
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            this.channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map game repository file " + path, e);
+        }
+
+        if (buffer.getLong(0) == MAGIC) {
+            validateHeader();
+            rebuildCounters();
+            logger.info("Opened off-heap game repository {} with {} games", path, countTotalGames());
+        } else if (isBlank()) {
+            buffer.putLong(0, MAGIC);
+            buffer.putInt(8, VERSION);
+            buffer.putInt(12, slotsPerSegment);
+            logger.info("Created off-heap game repository {} with {} slots", path, (long) SEGMENTS * slotsPerSegment);
+        } else {
+            throw new IllegalStateException("Not a game repository file: " + path);
+        }
+    }
+
+    @Override
+    public void save(GameState gameState) {
+        UUID id = parseId(gameState.gameId());
+        int segment = segmentFor(id);
+        ReentrantLock lock = locks[segment];
+        lock.lock();
+        try {
+            int slot = findSlot(segment, id);
+            if (slot < 0) {
+                slot = claimSlot(segment, id, slot);
+            } else {
+                countFinished(segment, slot, -1);
+            }
+            writeSlot(segment, slot, gameState);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean saveIfAbsent(GameState gameState) {
+        UUID id = parseId(gameState.gameId());
+        int segment = segmentFor(id);
+        ReentrantLock lock = locks[segment];
+        lock.lock();
+        try {
+            int slot = findSlot(segment, id);
+            if (slot >= 0) {
+                return false;
+            }
+            writeSlot(segment, claimSlot(segment, id, slot), gameState);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean replace(GameState expected, GameState updated) {
+        UUID id = parseId(expected.gameId());
+        int segment = segmentFor(id);
+        ReentrantLock lock = locks[segment];
+        lock.lock();
+        try {
+            int slot = findSlot(segment, id);
+            if (slot < 0 || !readSlot(slot).equals(expected)) {
+                return false;
+            }
+            countFinished(segment, slot, -1);
+            writeSlot(segment, slot, updated);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<GameState> findById(String gameId) {
+        UUID id;
+        try {
+            id = UUID.fromString(gameId);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        int segment = segmentFor(id);
+        ReentrantLock lock = locks[segment];
+        lock.lock();
+        try {
+            int slot = findSlot(segment, id);
+            return slot >= 0 ? Optional.of(readSlot(slot)) : Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<GameState> findAll() {
+        return scan(gameState -> true);
+    }
+
+    @Override
+    public List<GameState> findFinishedGames() {
+        return scan(GameState::isFinished);
+    }
+
+    @Override
+    public long countTotalGames() {
+        return sumCounter(SEGMENT_SIZE);
+    }
+
+    @Override
+    public long countFinishedGames() {
+        return sumCounter(SEGMENT_FINISHED);
+    }
+
+    @Override
+    public long countGamesByWinner(String winner) {
+        if (Player.A.name().equals(winner)) {
+            return sumCounter(SEGMENT_WINS_A);
+        }
+        if (Player.B.name().equals(winner)) {
+            return sumCounter(SEGMENT_WINS_B);
+        }
+        return 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private void validateHeader() {
+        int version = buffer.getInt(8);
+        int storedSlotsPerSegment = buffer.getInt(12);
+        if (version != VERSION || storedSlotsPerSegment != slotsPerSegment) {
+            throw new IllegalStateException(String.format(
+                    "Game repository %s has version %d and %d slots per segment, expected version %d and %d",
+                    path, version, storedSlotsPerSegment, VERSION, slotsPerSegment));
+        }
+    }
+
+    private void rebuildCounters() {
+        for (int segment = 0; segment < SEGMENTS; segment++) {
+            int header = FILE_HEADER_BYTES + segment * SEGMENT_HEADER_BYTES;
+            for (int counter = 0; counter < SEGMENT_HEADER_BYTES; counter += Long.BYTES) {
+                buffer.putLong(header + counter, 0);
+            }
+            int segmentStart = slotsOffset + segment * slotsPerSegment * SLOT_BYTES;
+            for (int i = 0; i < slotsPerSegment; i++) {
+                int slot = segmentStart + i * SLOT_BYTES;
+                if (buffer.get(slot + SLOT_USED) != 0) {
+                    addToSegmentCounter(segment, SEGMENT_SIZE, 1);
+                    countFinished(segment, slot, 1);
+                }
+            }
+        }
+    }
+
+    private boolean isBlank() {
+        for (int i = 0; i < FILE_HEADER_BYTES; i += 8) {
+            if (buffer.getLong(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the byte offset of the slot holding {@code id}, or {@code -(offset + 1)} of the first free
+     * slot of its probe sequence.
+     */
+    private int findSlot(int segment, UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int mask = slotsPerSegment - 1;
+        int index = (int) mix(msb, lsb) & mask;
+        int segmentStart = slotsOffset + segment * slotsPerSegment * SLOT_BYTES;
+
+        for (int probe = 0; probe < slotsPerSegment; probe++) {
+            int slot = segmentStart + ((index + probe) & mask) * SLOT_BYTES;
+            if (buffer.get(slot + SLOT_USED) == 0) {
+                return -slot - 1;
+            }
+            if (buffer.getLong(slot) == msb && buffer.getLong(slot + 8) == lsb) {
+                return slot;
+            }
+        }
+        throw new IllegalStateException("Off-heap game repository is full: " + path);
+    }
+
+    /**
+     * Writes {@code id} to the free slot {@link #findSlot} returned as {@code freeSlot}.
+     *
+     * @return the slot's byte offset
+     */
+    private int claimSlot(int segment, UUID id, int freeSlot) {
+        if (segmentCounter(segment, SEGMENT_SIZE) >= maxEntriesPerSegment) {
+            throw new IllegalStateException("Off-heap game repository is full: " + path);
+        }
+        int slot = -freeSlot - 1;
+        buffer.putLong(slot, id.getMostSignificantBits());
+        buffer.putLong(slot + 8, id.getLeastSignificantBits());
+        addToSegmentCounter(segment, SEGMENT_SIZE, 1);
+        return slot;
+    }
+
+    private void writeSlot(int segment, int slot, GameState gameState) {
+        buffer.put(slot + SLOT_A_POINTS, (byte) gameState.score().playerAPoints());
+        buffer.put(slot + SLOT_B_POINTS, (byte) gameState.score().playerBPoints());
+        buffer.put(slot + SLOT_FLAGS, encodeFlags(gameState));
+        buffer.put(slot + SLOT_USED, (byte) 1);
+        countFinished(segment, slot, 1);
+    }
+
+    private GameState readSlot(int slot) {
+        String gameId = new UUID(buffer.getLong(slot), buffer.getLong(slot + 8)).toString();
+        Score score = new Score(buffer.get(slot + SLOT_A_POINTS), buffer.get(slot + SLOT_B_POINTS));
+        return GameState.of(gameId, ScoreState.of(score));
+    }
+
+    private List<GameState> scan(Predicate<GameState> filter) {
+        List<GameState> result = new ArrayList<>();
+        for (int segment = 0; segment < SEGMENTS; segment++) {
+            int segmentStart = slotsOffset + segment * slotsPerSegment * SLOT_BYTES;
+            locks[segment].lock();
+            try {
+                for (int i = 0; i < slotsPerSegment; i++) {
+                    int slot = segmentStart + i * SLOT_BYTES;
+                    if (buffer.get(slot + SLOT_USED) != 0) {
+                        GameState gameState = readSlot(slot);
+                        if (filter.test(gameState)) {
+                            result.add(gameState);
+                        }
+                    }
+                }
+            } finally {
+                locks[segment].unlock();
+            }
+        }
+        return result;
+    }
+
+    private void countFinished(int segment, int slot, int delta) {
+        int flags = buffer.get(slot + SLOT_FLAGS);
+        if ((flags & FLAG_FINISHED) == 0) {
+            return;
+        }
+        addToSegmentCounter(segment, SEGMENT_FINISHED, delta);
+        int winner = flags >> WINNER_SHIFT;
+        if (winner == 1) {
+            addToSegmentCounter(segment, SEGMENT_WINS_A, delta);
+        } else if (winner == 2) {
+            addToSegmentCounter(segment, SEGMENT_WINS_B, delta);
+        }
+    }
+
+    private long segmentCounter(int segment, int counter) {
+        return buffer.getLong(FILE_HEADER_BYTES + segment * SEGMENT_HEADER_BYTES + counter);
+    }
+
+    private void addToSegmentCounter(int segment, int counter, long delta) {
+        int offset = FILE_HEADER_BYTES + segment * SEGMENT_HEADER_BYTES + counter;
+        buffer.putLong(offset, buffer.getLong(offset) + delta);
+    }
+
+    private long sumCounter(int counter) {
+        long total = 0;
+        for (int segment = 0; segment < SEGMENTS; segment++) {
+            locks[segment].lock();
+            try {
+                total += segmentCounter(segment, counter);
+            } finally {
+                locks[segment].unlock();
+            }
+        }
+        return total;
+    }
+
+    private static byte encodeFlags(GameState gameState) {
+        if (!gameState.isFinished()) {
+            return 0;
+        }
+        int winner = gameState.winner() == Player.A ? 1 : 2;
+        return (byte) (FLAG_FINISHED | winner << WINNER_SHIFT);
+    }
+
+    private static UUID parseId(String gameId) {
+        try {
+            return UUID.fromString(gameId);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Off-heap repository requires UUID game ids: " + gameId, e);
+        }
+    }
+
+    private static int segmentFor(UUID id) {
+        return (int) (mix(id.getLeastSignificantBits(), id.getMostSignificantBits()) >>> 58);
+    }
+
+    private static long mix(long high, long low) {
+        long h = high * 0x9E3779B97F4A7C15L ^ low;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,23 +1,36 @@
 package com.tennis.infrastructure.adapter;
 
+import com.tennis.application.dto.LiveGameResponse;
 import com.tennis.domain.model.GameState;
 import com.tennis.domain.model.Player;
 import com.tennis.domain.port.GameEventPublisher;
+import com.tennis.infrastructure.messaging.LiveScoreBroadcaster;
+import com.tennis.infrastructure.config.EventPublishingConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 @Component
 @Profile("!kafka")
+@Qualifier(EventPublishingConfig.DIRECT_PUBLISHER)
 public class SimpleGameEventPublisher implements GameEventPublisher {
 
     private static final Logger logger = LoggerFactory.getLogger(SimpleGameEventPublisher.class);
 
+    private final LiveScoreBroadcaster liveScoreBroadcaster;
+
+    public SimpleGameEventPublisher(LiveScoreBroadcaster liveScoreBroadcaster) {
+        this.liveScoreBroadcaster = liveScoreBroadcaster;
+    }
+
     @Override
     public void publishPointScored(GameState gameState, Player player) {
         logger.info("Point scored - Game: {}, Player: {}, Score: {}",
                 gameState.gameId(), player, gameState.displayScore());
+        // The winning point already carries the final score, so only points are broadcast
+        liveScoreBroadcaster.publish(LiveGameResponse.from(gameState));
     }
 
     @Override
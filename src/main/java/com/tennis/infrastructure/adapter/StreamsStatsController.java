@@ -0,0 +1,112 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.application.dto.StreamsAggregateResponse;
+import com.tennis.infrastructure.messaging.GameEventStreamsProcessor;
+import com.tennis.infrastructure.messaging.StreamsStatsQueries;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/tennis/stats/streams")
+@Profile("kafka")
+@Tag(name = "Statistics", description = "Game statistics and metrics")
+public class StreamsStatsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamsStatsController.class);
+
+    private final StreamsStatsQueries streamsStatsQueries;
+
+    public StreamsStatsController(StreamsStatsQueries streamsStatsQueries) {
+        this.streamsStatsQueries = streamsStatsQueries;
+    }
+
+    @GetMapping("/games/{gameId}/points")
+    @Operation(
+            summary = "Get points scored in a game",
+            description = "Reads the running point count of a game from the stream processor's state store"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Point count found"),
+            @ApiResponse(responseCode = "404", description = "No points recorded for this game"),
+            @ApiResponse(responseCode = "503", description = "State store not queryable yet, e.g. during a rebalance")
+    })
+    public ResponseEntity<StreamsAggregateResponse> getPointsPerGame(
+            @Parameter(description = "Game identifier", required = true) @PathVariable String gameId,
+            @RequestParam(name = StreamsStatsQueries.FORWARDED_PARAM, defaultValue = "false") boolean forwarded,
+            HttpServletRequest request) {
+
+        return ResponseEntity.of(streamsStatsQueries.find(
+                GameEventStreamsProcessor.POINTS_PER_GAME_STORE, gameId, request.getRequestURI(), forwarded));
+    }
+
+    @GetMapping("/games/{gameId}/winner")
+    @Operation(
+            summary = "Get the winner of a finished game",
+            description = "Reads the winner of a game from the stream processor's finished-games store"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Game is finished"),
+            @ApiResponse(responseCode = "404", description = "Game unknown or not finished"),
+            @ApiResponse(responseCode = "503", description = "State store not queryable yet, e.g. during a rebalance")
+    })
+    public ResponseEntity<StreamsAggregateResponse> getWinner(
+            @Parameter(description = "Game identifier", required = true) @PathVariable String gameId,
+            @RequestParam(name = StreamsStatsQueries.FORWARDED_PARAM, defaultValue = "false") boolean forwarded,
+            HttpServletRequest request) {
+
+        return ResponseEntity.of(streamsStatsQueries.find(
+                GameEventStreamsProcessor.FINISHED_GAMES_STORE, gameId, request.getRequestURI(), forwarded));
+    }
+
+    @GetMapping("/players/{player}/wins")
+    @Operation(
+            summary = "Get games won by a player",
+            description = "Reads a player's win count from the stream processor's state store"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Win count, 0 if the player has not won yet"),
+            @ApiResponse(responseCode = "503", description = "State store not queryable yet, e.g. during a rebalance")
+    })
+    public ResponseEntity<StreamsAggregateResponse> getWinsPerPlayer(
+            @Parameter(description = "Player, A or B", required = true) @PathVariable String player,
+            @RequestParam(name = StreamsStatsQueries.FORWARDED_PARAM, defaultValue = "false") boolean forwarded,
+            HttpServletRequest request) {
+
+        String store = GameEventStreamsProcessor.WINS_PER_PLAYER_STORE;
+        return ResponseEntity.ok(streamsStatsQueries.find(store, player, request.getRequestURI(), forwarded)
+                .orElseGet(() -> new StreamsAggregateResponse(store, player, 0L, null)));
+    }
+
+    @ExceptionHandler(InvalidStateStoreException.class)
+    public ResponseEntity<Map<String, Object>> handleStoreUnavailable(InvalidStateStoreException ex) {
+        logger.warn("State store not queryable: {}", ex.getMessage());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.put("error", "State Store Unavailable");
+        response.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
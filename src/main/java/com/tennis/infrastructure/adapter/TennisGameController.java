@@ -1,8 +1,13 @@
 package com.tennis.infrastructure.adapter;
 
+import com.tennis.application.dto.BatchGameRequest;
+import com.tennis.application.dto.BatchGameResponse;
 import com.tennis.application.dto.GameRequest;
 import com.tennis.application.dto.GameResponse;
+import com.tennis.application.dto.LiveGameResponse;
+import com.tennis.application.dto.PointRequest;
 import com.tennis.application.dto.TennisRulesResponse;
+import com.tennis.application.usecase.LiveGameUseCase;
 import com.tennis.application.usecase.PlayTennisGameUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +20,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,9 +33,11 @@ public class TennisGameController {
     private static final Logger logger = LoggerFactory.getLogger(TennisGameController.class);
 
     private final PlayTennisGameUseCase playTennisGameUseCase;
+    private final LiveGameUseCase liveGameUseCase;
 
-    public TennisGameController(PlayTennisGameUseCase playTennisGameUseCase) {
+    public TennisGameController(PlayTennisGameUseCase playTennisGameUseCase, LiveGameUseCase liveGameUseCase) {
         this.playTennisGameUseCase = playTennisGameUseCase;
+        this.liveGameUseCase = liveGameUseCase;
     }
 
     @PostMapping("/games")
@@ -103,6 +111,150 @@ public class TennisGameController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/games/batch")
+    @Operation(
+            summary = "Play a batch of tennis games",
+            description = "Scores many ball sequences in parallel. Results are returned in request order; "
+                    + "invalid sequences are reported inline instead of failing the whole batch."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch scored",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchGameResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Batch with one invalid sequence",
+                                    value = """
+                    {
+                      "results": [
+                        {
+                          "index": 0,
+                          "game": {
+                            "gameId": "123e4567-e89b-12d3-a456-426614174000",
+                            "scoreProgression": [
+                              "Player A : 15 / Player B : 0",
+                              "Player A : 30 / Player B : 0",
+                              "Player A : 40 / Player B : 0",
+                              "Player A wins the game"
+                            ],
+                            "isFinished": true,
+                            "winner": "Player A"
+                          },
+                          "error": null
+                        },
+                        {
+                          "index": 1,
+                          "game": null,
+                          "error": "Ball sequence must contain only 'A' and 'B' characters"
+                        }
+                      ],
+                      "succeeded": 1,
+                      "failed": 1
+                    }
+                    """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Batch is empty or too large")
+    })
+    public ResponseEntity<BatchGameResponse> playGames(@Valid @RequestBody BatchGameRequest request) {
+
+        logger.info("Playing batch of {} games", request.ballSequences().size());
+
+        BatchGameResponse response = playTennisGameUseCase.executeBatch(request);
+
+        logger.info("Batch completed. Succeeded: {}, Failed: {}",
+                response.succeeded(), response.failed());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/games/live")
+    @Operation(
+            summary = "Start a live game",
+            description = "Creates a game at 0-0 whose points are then submitted one at a time."
+    )
+    @ApiResponse(
+            responseCode = "201",
+            description = "Game created",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = LiveGameResponse.class)
+            )
+    )
+    public ResponseEntity<LiveGameResponse> startGame() {
+
+        LiveGameResponse response = liveGameUseCase.startGame();
+
+        logger.info("Started live game {}", response.gameId());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("/games/{gameId}/points")
+    @Operation(
+            summary = "Score a point",
+            description = "Applies one ball to a live game and returns the new score. Concurrent points on the "
+                    + "same game are applied one after the other."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Point scored",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = LiveGameResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Point scored",
+                                    value = """
+                    {
+                      "gameId": "123e4567-e89b-12d3-a456-426614174000",
+                      "score": "Player A : 30 / Player B : 15",
+                      "isFinished": false,
+                      "winner": null
+                    }
+                    """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Player is not 'A' or 'B'"),
+            @ApiResponse(responseCode = "404", description = "Game not found"),
+            @ApiResponse(responseCode = "409", description = "Game is already finished")
+    })
+    public ResponseEntity<LiveGameResponse> scorePoint(
+            @Parameter(description = "Game identifier returned when the game was started", required = true)
+            @PathVariable String gameId,
+            @Valid @RequestBody PointRequest request) {
+
+        LiveGameResponse response = liveGameUseCase.scorePoint(gameId, request);
+
+        logger.debug("Game {}: {}", gameId, response.score());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/games/{gameId}")
+    @Operation(
+            summary = "Get a game",
+            description = "Returns the current score of a stored game."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Game found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = LiveGameResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "Game not found")
+    })
+    public ResponseEntity<LiveGameResponse> getGame(@PathVariable String gameId) {
+        return ResponseEntity.ok(liveGameUseCase.getGame(gameId));
+    }
+
     @GetMapping("/health")
     @Operation(
             summary = "Health check",
@@ -0,0 +1,198 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.port.GameRepository;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind decorator for a {@link GameRepository}.
+ * <p>
+ * Saves are buffered per game, so only the latest state of each game is kept until the next flush.
+ * Buffered states are written to the delegate through {@link GameRepository#saveAll} when a game
+ * finishes (if enabled), when the buffer reaches {@code maxBatchSize}, or every {@code flushInterval}.
+ * Lookups by id read through the buffer; queries over all games flush first so they never miss a state.
+ */
+public class WriteBehindGameRepository implements GameRepository, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindGameRepository.class);
+
+    private final GameRepository delegate;
+    private final GameMetrics gameMetrics;
+    private final int maxBatchSize;
+    private final boolean flushOnFinish;
+    private final Map<String, GameState> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler;
+
+    public WriteBehindGameRepository(GameRepository delegate,
+                                     GameMetrics gameMetrics,
+                                     int maxBatchSize,
+                                     Duration flushInterval,
+                                     boolean flushOnFinish) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        this.delegate = delegate;
+        this.gameMetrics = gameMetrics;
+        this.maxBatchSize = maxBatchSize;
+        this.flushOnFinish = flushOnFinish;
+
+        gameMetrics.registerRepositoryQueueDepth(pending::size);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-repository-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void save(GameState gameState) {
+        pending.put(gameState.gameId(), gameState);
+
+        if ((flushOnFinish && gameState.isFinished()) || pending.size() >= maxBatchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<GameState> gameStates) {
+        gameStates.forEach(gameState -> pending.put(gameState.gameId(), gameState));
+        flush();
+    }
+
+    /**
+     * A buffered state counts as present; otherwise the state goes to the delegate directly. A state
+     * buffered after the check is flushed over it later, so the newer state still wins.
+     */
+    @Override
+    public boolean saveIfAbsent(GameState gameState) {
+        return !pending.containsKey(gameState.gameId()) && delegate.saveIfAbsent(gameState);
+    }
+
+    @Override
+    public int saveAllIfAbsent(Collection<GameState> gameStates) {
+        return delegate.saveAllIfAbsent(gameStates.stream()
+                .filter(gameState -> !pending.containsKey(gameState.gameId()))
+                .toList());
+    }
+
+    /**
+     * Compares against the buffered state, or the delegate's if none is buffered. The check runs inside
+     * the buffer entry's lock, which a flush also takes before dropping the entry, so the two cannot
+     * interleave.
+     */
+    @Override
+    public boolean replace(GameState expected, GameState updated) {
+        AtomicBoolean replaced = new AtomicBoolean();
+        pending.compute(expected.gameId(), (gameId, buffered) -> {
+            GameState current = buffered != null ? buffered : delegate.findById(gameId).orElse(null);
+            if (!expected.equals(current)) {
+                return buffered;
+            }
+            replaced.set(true);
+            return updated;
+        });
+
+        if (replaced.get() && ((flushOnFinish && updated.isFinished()) || pending.size() >= maxBatchSize)) {
+            flush();
+        }
+        return replaced.get();
+    }
+
+    @Override
+    public Optional<GameState> findById(String gameId) {
+        GameState buffered = pending.get(gameId);
+        return buffered != null ? Optional.of(buffered) : delegate.findById(gameId);
+    }
+
+    @Override
+    public List<GameState> findAll() {
+        flush();
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<GameState> findFinishedGames() {
+        flush();
+        return delegate.findFinishedGames();
+    }
+
+    @Override
+    public long countTotalGames() {
+        flush();
+        return delegate.countTotalGames();
+    }
+
+    @Override
+    public long countFinishedGames() {
+        flush();
+        return delegate.countFinishedGames();
+    }
+
+    @Override
+    public long countGamesByWinner(String winner) {
+        flush();
+        return delegate.countGamesByWinner(winner);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Writes every buffered state to the delegate. A state that is replaced while the flush is running
+     * stays buffered and goes out with the next flush.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            List<GameState> batch = new ArrayList<>(pending.values());
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            delegate.saveAll(batch);
+            batch.forEach(gameState -> pending.remove(gameState.gameId(), gameState));
+            gameMetrics.recordRepositoryFlush(batch.size(), System.nanoTime() - start);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        flush();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.error("Failed to flush {} buffered game states", pending.size(), e);
+        }
+    }
+}
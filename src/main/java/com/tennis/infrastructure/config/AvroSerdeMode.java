@@ -0,0 +1,14 @@
+package com.tennis.infrastructure.config;
+
+/**
+ * Where the Avro serdes resolve schemas and schema ids, selected with {@code tennis.avro.serde-mode}.
+ */
+public enum AvroSerdeMode {
+    /** From the schema registry at {@code spring.kafka.schema-registry-url}, registering new schemas. */
+    REGISTRY,
+    /**
+     * From the generated {@code com.tennis.avro} classes and the ids in {@code tennis.avro.schema-ids},
+     * held in memory; the registry is never contacted.
+     */
+    EMBEDDED
+}
@@ -0,0 +1,87 @@
+package com.tennis.infrastructure.config;
+
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import io.confluent.kafka.schemaregistry.testutil.MockSchemaRegistry;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.subject.RecordNameStrategy;
+import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificData;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The configuration shared by every Avro serializer, deserializer and serde of the application.
+ * <p>
+ * In {@link AvroSerdeMode#EMBEDDED} mode the serdes use Confluent's in-memory registry client, loaded
+ * with the schema of each generated class listed in the schema-id file under the id given there. Values
+ * are registered under their record name rather than their topic, so that Kafka Streams' internal
+ * topics resolve to the same entries, and nothing is registered at runtime: an event whose schema is not
+ * in the file fails to serialize instead of getting an id no other service knows.
+ */
+public final class AvroSerdeSettings {
+
+    /** The in-memory registry scope of the embedded mode. */
+    static final String EMBEDDED_SCOPE = "tennis-embedded";
+
+    private static final String MOCK_URL_PREFIX = "mock://";
+
+    private final Map<String, Object> properties;
+
+    private AvroSerdeSettings(Map<String, Object> properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Resolves schemas through the registry at {@code url}, which may also be a {@code mock://} scope.
+     */
+    public static AvroSerdeSettings registry(String url) {
+        return new AvroSerdeSettings(Map.of(
+                AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, url,
+                AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS, true,
+                AbstractKafkaSchemaSerDeConfig.USE_LATEST_VERSION, true));
+    }
+
+    /**
+     * Resolves schemas from the generated classes named in {@code schemaIds}, each mapped to its id.
+     */
+    public static AvroSerdeSettings embedded(Properties schemaIds) {
+        return embedded(EMBEDDED_SCOPE, schemaIds);
+    }
+
+    static AvroSerdeSettings embedded(String scope, Properties schemaIds) {
+        SchemaRegistryClient client = MockSchemaRegistry.getClientForScope(scope);
+        for (String className : schemaIds.stringPropertyNames()) {
+            Schema schema = generatedSchema(className);
+            int id = Integer.parseInt(schemaIds.getProperty(className).trim());
+            try {
+                client.register(schema.getFullName(), new AvroSchema(schema), 1, id);
+            } catch (IOException | RestClientException e) {
+                throw new IllegalStateException("Cannot load schema " + className + " with id " + id, e);
+            }
+        }
+        return new AvroSerdeSettings(Map.of(
+                AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, MOCK_URL_PREFIX + scope,
+                AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS, false,
+                AbstractKafkaSchemaSerDeConfig.USE_LATEST_VERSION, false,
+                AbstractKafkaSchemaSerDeConfig.VALUE_SUBJECT_NAME_STRATEGY, RecordNameStrategy.class));
+    }
+
+    /**
+     * @return the serde properties to add to a producer, consumer or Streams configuration
+     */
+    public Map<String, Object> properties() {
+        return properties;
+    }
+
+    private static Schema generatedSchema(String className) {
+        try {
+            return SpecificData.get().getSchema(Class.forName(className));
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("No generated Avro class " + className, e);
+        }
+    }
+}
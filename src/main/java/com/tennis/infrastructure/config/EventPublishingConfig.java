@@ -0,0 +1,36 @@
+package com.tennis.infrastructure.config;
+
+import com.tennis.domain.port.GameEventPublisher;
+import com.tennis.infrastructure.adapter.AsyncGameEventPublisher;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Optionally moves event publishing off the scoring thread. The profile-specific publisher is
+ * qualified as {@value #DIRECT_PUBLISHER} so the async decorator can wrap it.
+ */
+@Configuration
+public class EventPublishingConfig {
+
+    public static final String DIRECT_PUBLISHER = "directGameEventPublisher";
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "tennis.events.async.enabled", havingValue = "true")
+    public AsyncGameEventPublisher asyncGameEventPublisher(
+            @Qualifier(DIRECT_PUBLISHER) GameEventPublisher directPublisher,
+            GameMetrics gameMetrics,
+            @Value("${tennis.events.async.shards:4}") int shards,
+            @Value("${tennis.events.async.capacity:8192}") int capacity,
+            @Value("${tennis.events.async.drain-batch-size:256}") int drainBatchSize,
+            @Value("${tennis.events.async.overflow-policy:BLOCK}") AsyncGameEventPublisher.OverflowPolicy overflowPolicy,
+            @Value("${tennis.events.async.spill-capacity:65536}") int spillCapacity) {
+        return new AsyncGameEventPublisher(directPublisher, gameMetrics, shards, capacity, drainBatchSize, overflowPolicy,
+                spillCapacity);
+    }
+}
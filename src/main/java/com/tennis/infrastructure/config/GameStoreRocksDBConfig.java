@@ -0,0 +1,82 @@
+package com.tennis.infrastructure.config;
+
+import org.apache.kafka.streams.state.RocksDBConfigSetter;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.Filter;
+import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
+
+import java.util.Map;
+
+/**
+ * Sizes the RocksDB instances behind the Kafka Streams state stores. Kafka Streams instantiates this
+ * class itself, so the settings are read from the streams configuration, where {@link KafkaStreamsConfig}
+ * puts them under the {@code tennis.rocksdb.*} keys.
+ * <p>
+ * Every setting applies per store: the block cache holds recently read blocks, the write buffers hold
+ * writes until they are flushed to disk, and the bloom filters let a lookup of an absent key skip the
+ * files that cannot contain it. The index and filter blocks are kept in the block cache so that the
+ * cache size bounds the memory of the store.
+ */
+public class GameStoreRocksDBConfig implements RocksDBConfigSetter {
+
+    public static final String BLOCK_CACHE_SIZE_CONFIG = "tennis.rocksdb.block-cache-size";
+    public static final String WRITE_BUFFER_SIZE_CONFIG = "tennis.rocksdb.write-buffer-size";
+    public static final String MAX_WRITE_BUFFERS_CONFIG = "tennis.rocksdb.max-write-buffers";
+    public static final String BLOOM_FILTER_BITS_CONFIG = "tennis.rocksdb.bloom-filter-bits";
+
+    static final long DEFAULT_BLOCK_CACHE_SIZE = 16L * 1024 * 1024;
+    static final long DEFAULT_WRITE_BUFFER_SIZE = 8L * 1024 * 1024;
+    static final int DEFAULT_MAX_WRITE_BUFFERS = 2;
+    static final double DEFAULT_BLOOM_FILTER_BITS = 10;
+
+    private Cache blockCache;
+    private Filter bloomFilter;
+
+    @Override
+    public void setConfig(String storeName, Options options, Map<String, Object> configs) {
+        BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) options.tableFormatConfig();
+
+        blockCache = new LRUCache(longConfig(configs, BLOCK_CACHE_SIZE_CONFIG, DEFAULT_BLOCK_CACHE_SIZE));
+        tableConfig.setBlockCache(blockCache);
+        tableConfig.setCacheIndexAndFilterBlocks(true);
+
+        double bloomFilterBits = doubleConfig(configs, BLOOM_FILTER_BITS_CONFIG, DEFAULT_BLOOM_FILTER_BITS);
+        if (bloomFilterBits > 0) {
+            bloomFilter = new BloomFilter(bloomFilterBits);
+            tableConfig.setFilterPolicy(bloomFilter);
+        }
+        options.setTableFormatConfig(tableConfig);
+
+        options.setWriteBufferSize(longConfig(configs, WRITE_BUFFER_SIZE_CONFIG, DEFAULT_WRITE_BUFFER_SIZE));
+        options.setMaxWriteBufferNumber(
+                (int) longConfig(configs, MAX_WRITE_BUFFERS_CONFIG, DEFAULT_MAX_WRITE_BUFFERS));
+    }
+
+    @Override
+    public void close(String storeName, Options options) {
+        // Owned by this setter, not by the options, so they are not closed with the store
+        blockCache.close();
+        if (bloomFilter != null) {
+            bloomFilter.close();
+        }
+    }
+
+    private static long longConfig(Map<String, Object> configs, String key, long defaultValue) {
+        Object value = configs.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString().trim());
+    }
+
+    private static double doubleConfig(Map<String, Object> configs, String key, double defaultValue) {
+        Object value = configs.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value instanceof Number number ? number.doubleValue() : Double.parseDouble(value.toString().trim());
+    }
+}
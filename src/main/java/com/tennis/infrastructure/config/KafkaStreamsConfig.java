@@ -10,6 +10,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.annotation.KafkaStreamsDefaultConfiguration;
 import org.springframework.kafka.config.KafkaStreamsConfiguration;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -20,8 +21,32 @@ public class KafkaStreamsConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
-    @Value("${spring.kafka.schema-registry-url}")
-    private String schemaRegistryUrl;
+    @Value("${tennis.streams.application-server:localhost:8080}")
+    private String applicationServer;
+
+    @Value("${tennis.streams.cache-max-bytes:10485760}")
+    private long cacheMaxBytes;
+
+    @Value("${tennis.streams.commit-interval:30s}")
+    private Duration commitInterval;
+
+    @Value("${tennis.streams.rocksdb.block-cache-size:16777216}")
+    private long rocksDbBlockCacheSize;
+
+    @Value("${tennis.streams.rocksdb.write-buffer-size:8388608}")
+    private long rocksDbWriteBufferSize;
+
+    @Value("${tennis.streams.rocksdb.max-write-buffers:2}")
+    private int rocksDbMaxWriteBuffers;
+
+    @Value("${tennis.streams.rocksdb.bloom-filter-bits:10}")
+    private double rocksDbBloomFilterBits;
+
+    private final AvroSerdeSettings avroSerdeSettings;
+
+    public KafkaStreamsConfig(AvroSerdeSettings avroSerdeSettings) {
+        this.avroSerdeSettings = avroSerdeSettings;
+    }
 
     @Bean(name = KafkaStreamsDefaultConfiguration.DEFAULT_STREAMS_CONFIG_BEAN_NAME)
     public KafkaStreamsConfiguration kStreamsConfig() {
@@ -30,9 +55,17 @@ public class KafkaStreamsConfig {
         props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG, Serdes.String().getClass());
         props.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, SpecificAvroSerde.class);
-        props.put("schema.registry.url", schemaRegistryUrl);
-        props.put("auto.register.schemas", true);
-        props.put("use.latest.version", true);
+        // Advertised in the streams metadata, so that state store queries can be forwarded to this instance
+        props.put(StreamsConfig.APPLICATION_SERVER_CONFIG, applicationServer);
+        // Updates to a key between commits are collapsed in the record cache before reaching RocksDB and the changelog
+        props.put(StreamsConfig.STATESTORE_CACHE_MAX_BYTES_CONFIG, cacheMaxBytes);
+        props.put(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG, commitInterval.toMillis());
+        props.put(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG, GameStoreRocksDBConfig.class);
+        props.put(GameStoreRocksDBConfig.BLOCK_CACHE_SIZE_CONFIG, rocksDbBlockCacheSize);
+        props.put(GameStoreRocksDBConfig.WRITE_BUFFER_SIZE_CONFIG, rocksDbWriteBufferSize);
+        props.put(GameStoreRocksDBConfig.MAX_WRITE_BUFFERS_CONFIG, rocksDbMaxWriteBuffers);
+        props.put(GameStoreRocksDBConfig.BLOOM_FILTER_BITS_CONFIG, rocksDbBloomFilterBits);
+        props.putAll(avroSerdeSettings.properties());
 
         return new KafkaStreamsConfiguration(props);
     }
@@ -0,0 +1,28 @@
+package com.tennis.infrastructure.config;
+
+import java.time.Duration;
+
+/**
+ * Named starting points for {@link ProducerTuning}, selected with {@code tennis.kafka.producer.profile}.
+ */
+public enum ProducerProfile {
+    /**
+     * Sends every record as soon as possible in small uncompressed batches. These are the defaults of
+     * the 3.x Kafka clients, pinned so that a client upgrade does not change them.
+     */
+    LOW_LATENCY(new ProducerTuning(Duration.ZERO, 16 * 1024, "none", true, "all", 5, 32L << 20)),
+    /** Waits up to 5 ms to fill lz4-compressed batches. */
+    BALANCED(new ProducerTuning(Duration.ofMillis(5), 64 * 1024, "lz4", true, "all", 5, 32L << 20)),
+    /** Waits up to 20 ms to fill large lz4-compressed batches, with more memory for them. */
+    HIGH_THROUGHPUT(new ProducerTuning(Duration.ofMillis(20), 256 * 1024, "lz4", true, "all", 5, 64L << 20));
+
+    private final ProducerTuning tuning;
+
+    ProducerProfile(ProducerTuning tuning) {
+        this.tuning = tuning;
+    }
+
+    public ProducerTuning tuning() {
+        return tuning;
+    }
+}
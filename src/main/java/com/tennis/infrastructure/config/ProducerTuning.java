@@ -0,0 +1,64 @@
+package com.tennis.infrastructure.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Batching, compression and delivery settings of the event producer.
+ * <p>
+ * A {@link ProducerProfile} supplies a consistent starting point; individual {@code tennis.kafka.producer.*}
+ * properties override single values of it. Combinations the broker would reject, or that would silently
+ * disable idempotence, fail at startup instead.
+ */
+public record ProducerTuning(
+        Duration linger,
+        int batchSize,
+        String compressionType,
+        boolean idempotence,
+        String acks,
+        int maxInFlightRequests,
+        long bufferMemory
+) {
+
+    private static final Set<String> COMPRESSION_TYPES = Set.of("none", "gzip", "snappy", "lz4", "zstd");
+    private static final Set<String> ACKS = Set.of("0", "1", "all", "-1");
+
+    public ProducerTuning {
+        if (linger.isNegative() || batchSize < 0 || maxInFlightRequests < 1 || bufferMemory < batchSize) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid producer tuning: linger=%s, batch-size=%d, max-in-flight=%d, buffer-memory=%d",
+                    linger, batchSize, maxInFlightRequests, bufferMemory));
+        }
+        if (!COMPRESSION_TYPES.contains(compressionType)) {
+            throw new IllegalArgumentException("Unknown compression type: " + compressionType
+                    + ", expected one of " + COMPRESSION_TYPES);
+        }
+        if (!ACKS.contains(acks)) {
+            throw new IllegalArgumentException("Unknown acks setting: " + acks);
+        }
+        if (idempotence && !(acks.equals("all") || acks.equals("-1"))) {
+            throw new IllegalArgumentException("Idempotence requires acks=all, got acks=" + acks);
+        }
+        if (idempotence && maxInFlightRequests > 5) {
+            throw new IllegalArgumentException(
+                    "Idempotence allows at most 5 in-flight requests, got " + maxInFlightRequests);
+        }
+    }
+
+    /** The settings as producer properties, to be merged into the connection and serializer settings. */
+    public Map<String, Object> producerProperties() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.LINGER_MS_CONFIG, (int) linger.toMillis());
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, idempotence);
+        props.put(ProducerConfig.ACKS_CONFIG, acks);
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION_CONFIG, maxInFlightRequests);
+        props.put(ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+        return props;
+    }
+}
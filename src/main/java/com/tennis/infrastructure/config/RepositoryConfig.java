@@ -0,0 +1,136 @@
+package com.tennis.infrastructure.config;
+
+import com.tennis.domain.port.GameArchive;
+import com.tennis.domain.port.GameRepository;
+import com.tennis.infrastructure.adapter.EvictionPolicy;
+import com.tennis.infrastructure.adapter.FileGameArchive;
+import com.tennis.infrastructure.adapter.GameJournal;
+import com.tennis.infrastructure.adapter.InMemoryGameRepository;
+import com.tennis.infrastructure.adapter.JournaledGameRepository;
+import com.tennis.infrastructure.adapter.MappedFileGameRepository;
+import com.tennis.infrastructure.adapter.WriteBehindGameRepository;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Builds the game store for the active profile ({@code offheap} selects the memory-mapped store,
+ * anything else the heap store) and the optional decorators around it, chained as
+ * write-behind &rarr; journal &rarr; store. The primary {@code gameRepository} bean is the outermost one.
+ */
+@Configuration
+public class RepositoryConfig {
+
+    public static final String GAME_STORE = "gameStore";
+
+    @Value("${tennis.repository.in-memory.max-entries:0}")
+    private int inMemoryMaxEntries;
+
+    @Value("${tennis.repository.in-memory.max-bytes:0}")
+    private long inMemoryMaxBytes;
+
+    @Value("${tennis.repository.in-memory.finished-ttl:0s}")
+    private Duration inMemoryFinishedTtl;
+
+    @Value("${tennis.repository.offheap.path:data/games.db}")
+    private Path offHeapPath;
+
+    @Value("${tennis.repository.offheap.capacity:4194304}")
+    private int offHeapCapacity;
+
+    @Value("${tennis.repository.write-behind.max-batch-size:500}")
+    private int writeBehindMaxBatchSize;
+
+    @Value("${tennis.repository.write-behind.flush-interval:200ms}")
+    private Duration writeBehindFlushInterval;
+
+    @Value("${tennis.repository.write-behind.flush-on-finish:true}")
+    private boolean writeBehindFlushOnFinish;
+
+    @Value("${tennis.repository.journal.directory:data/journal}")
+    private Path journalDirectory;
+
+    @Value("${tennis.repository.journal.segment-bytes:67108864}")
+    private long journalSegmentBytes;
+
+    @Value("${tennis.repository.journal.fsync:true}")
+    private boolean journalFsync;
+
+    @Value("${tennis.repository.journal.sync:true}")
+    private boolean journalSync;
+
+    @Value("${tennis.repository.journal.snapshot-interval:5m}")
+    private Duration journalSnapshotInterval;
+
+    @Bean
+    @Qualifier(GAME_STORE)
+    @Profile("!offheap")
+    public InMemoryGameRepository inMemoryGameRepository(ObjectProvider<GameArchive> gameArchive,
+                                                         GameMetrics gameMetrics) {
+        return new InMemoryGameRepository(
+                new EvictionPolicy(inMemoryMaxEntries, inMemoryMaxBytes, inMemoryFinishedTtl),
+                gameArchive.getIfAvailable(),
+                gameMetrics
+        );
+    }
+
+    @Bean
+    @Qualifier(GAME_STORE)
+    @Profile("offheap")
+    public MappedFileGameRepository mappedFileGameRepository() {
+        return new MappedFileGameRepository(offHeapPath, offHeapCapacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tennis.repository.in-memory.archive-path")
+    public FileGameArchive fileGameArchive(@Value("${tennis.repository.in-memory.archive-path}") Path archivePath) {
+        return new FileGameArchive(archivePath);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tennis.repository.journal.enabled", havingValue = "true")
+    public JournaledGameRepository journaledGameRepository(@Qualifier(GAME_STORE) GameRepository gameStore,
+                                                           GameMetrics gameMetrics) {
+        GameJournal journal = new GameJournal(journalDirectory, journalSegmentBytes, journalFsync, gameMetrics);
+        return new JournaledGameRepository(gameStore, journal, journalSync, journalSnapshotInterval);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tennis.repository.write-behind.enabled", havingValue = "true")
+    public WriteBehindGameRepository writeBehindGameRepository(@Qualifier(GAME_STORE) GameRepository gameStore,
+                                                               @Nullable JournaledGameRepository journaled,
+                                                               GameMetrics gameMetrics) {
+        // Injected directly (not through a provider) so the journal is closed after the final flush
+        return new WriteBehindGameRepository(
+                journaled != null ? journaled : gameStore,
+                gameMetrics,
+                writeBehindMaxBatchSize,
+                writeBehindFlushInterval,
+                writeBehindFlushOnFinish
+        );
+    }
+
+    /**
+     * The repository the application uses. It aliases a bean defined above, which owns its lifecycle.
+     */
+    @Bean(destroyMethod = "")
+    @Primary
+    public GameRepository gameRepository(@Qualifier(GAME_STORE) GameRepository gameStore,
+                                         @Nullable JournaledGameRepository journaled,
+                                         @Nullable WriteBehindGameRepository writeBehind) {
+        if (writeBehind != null) {
+            return writeBehind;
+        }
+        return journaled != null ? journaled : gameStore;
+    }
+}
@@ -1,53 +1,281 @@
 package com.tennis.infrastructure.messaging;
 
+import com.tennis.application.dto.LiveGameResponse;
 import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Score;
+import com.tennis.domain.model.ScoreState;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Consumes game events either one record at a time or, with {@code tennis.kafka.consumer.batch.enabled},
+ * a whole poll at a time. A batch is split into lanes by game id and the lanes run in parallel, so the
+ * events of one game are still processed in order.
+ * <p>
+ * An event that fails is moved to a chain of retry topics with growing delays and finally to
+ * {@value #DEAD_LETTER_TOPIC}, so it never holds up its partition. Failed records carry the
+ * {@code kafka_dlt-exception-*} and {@code kafka_dlt-original-*} headers. The retry topics are consumed
+ * by copies of the record listener, which also run in batch mode. A record whose value cannot be
+ * deserialized goes to {@value #DEAD_LETTER_TOPIC} directly, with its original bytes.
+ */
 @Component
 @Profile("kafka")
-public class GameEventConsumer {
+public class GameEventConsumer implements AutoCloseable {
 
     private static final Logger logger = LoggerFactory.getLogger(GameEventConsumer.class);
 
+    public static final String TOPIC = "tennis-game-events";
+    public static final String RETRY_TOPIC_SUFFIX = "-retry";
+    public static final String FIRST_RETRY_TOPIC = TOPIC + RETRY_TOPIC_SUFFIX + "-0";
+    public static final String DEAD_LETTER_TOPIC = TOPIC + "-dlt";
+    public static final String BATCH_FAILURE_RECOVERER = "batchFailureRecoverer";
+
+    private static final String RECORD_LISTENER_ID = "tennis-game-consumer";
+    private static final LogAccessor HEADER_LOGGER = new LogAccessor(GameEventConsumer.class);
+
+    private final LiveScoreBroadcaster liveScoreBroadcaster;
+    private final GameMetrics gameMetrics;
+    private final ConsumerRecordRecoverer batchFailureRecoverer;
+    private final boolean batchEnabled;
+    private final int parallelism;
+    private final ExecutorService batchWorkers;
+
+    /**
+     * @param batchFailureRecoverer hands records that failed in a batch to {@link #batchFailureDestination}
+     */
+    public GameEventConsumer(LiveScoreBroadcaster liveScoreBroadcaster,
+                             GameMetrics gameMetrics,
+                             @Qualifier(BATCH_FAILURE_RECOVERER) ConsumerRecordRecoverer batchFailureRecoverer,
+                             @Value("${tennis.kafka.consumer.batch.enabled:false}") boolean batchEnabled,
+                             @Value("${tennis.kafka.consumer.batch.parallelism:0}") int parallelism) {
+        this.liveScoreBroadcaster = liveScoreBroadcaster;
+        this.gameMetrics = gameMetrics;
+        this.batchFailureRecoverer = batchFailureRecoverer;
+        this.batchEnabled = batchEnabled;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.batchWorkers = Executors.newFixedThreadPool(this.parallelism, workerThreadFactory());
+    }
+
+    @RetryableTopic(
+            attempts = "${tennis.kafka.consumer.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${tennis.kafka.consumer.retry.initial-delay-ms:1000}",
+                    multiplierExpression = "${tennis.kafka.consumer.retry.multiplier:2}",
+                    maxDelayExpression = "${tennis.kafka.consumer.retry.max-delay-ms:30000}"),
+            retryTopicSuffix = RETRY_TOPIC_SUFFIX,
+            dltTopicSuffix = "-dlt",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            // Malformed events fail the same way on every attempt
+            exclude = IllegalArgumentException.class,
+            kafkaTemplate = "deadLetterKafkaTemplate"
+    )
     @KafkaListener(
-            topics = "tennis-game-events",
+            id = RECORD_LISTENER_ID,
+            topics = TOPIC,
             groupId = "tennis-game-consumer",
-            containerFactory = "avroKafkaListenerContainerFactory"
+            containerFactory = "avroKafkaListenerContainerFactory",
+            autoStartup = "#{!${tennis.kafka.consumer.batch.enabled:false}}"
     )
     public void handleGameEvent(
             @Payload GameEvent event,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
             Acknowledgment acknowledgment) {
 
         try {
-            logger.info("Received event: type={}, gameId={}, partition={}, offset={}",
-                    event.getEventType(), event.getGameId(), partition, offset);
+            process(event, partition, offset);
+        } catch (RuntimeException e) {
+            gameMetrics.incrementConsumerFailures(tier(topic));
+            logger.warn("Error processing event from {}: {}", topic, event, e);
+            // Rethrown so that the event moves on to the next retry topic or the dead-letter topic
+            throw e;
+        }
+
+        // Acknowledge the message
+        acknowledgment.acknowledge();
+    }
 
-            processEvent(event);
+    @DltHandler
+    public void handleDeadLetter(
+            @Payload(required = false) GameEvent event,
+            @Header(name = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) String reason,
+            @Header(name = KafkaHeaders.RECEIVED_KEY, required = false) String key,
+            Acknowledgment acknowledgment) {
 
-            // Acknowledge the message
-            acknowledgment.acknowledge();
+        gameMetrics.incrementConsumerDeadLetters();
+        // The value is null when the record could not be deserialized
+        logger.error("Event for game {} failed every attempt and was dead-lettered: {}",
+                event != null ? event.getGameId() : key, reason);
+        acknowledgment.acknowledge();
+    }
 
+    @KafkaListener(
+            id = "tennis-game-batch-consumer",
+            topics = TOPIC,
+            groupId = "tennis-game-consumer",
+            containerFactory = "avroBatchKafkaListenerContainerFactory",
+            autoStartup = "${tennis.kafka.consumer.batch.enabled:false}"
+    )
+    public void handleGameEventBatch(List<ConsumerRecord<String, GameEvent>> records,
+                                     Acknowledgment acknowledgment) {
+        long start = System.nanoTime();
+        Queue<Failure> failures = new ConcurrentLinkedQueue<>();
+        List<ConsumerRecord<String, GameEvent>> readable = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, GameEvent> record : records) {
+            if (record.value() != null) {
+                readable.add(record);
+            } else {
+                failures.add(new Failure(record, deserializationFailure(record)));
+            }
+        }
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (List<ConsumerRecord<String, GameEvent>> lane : lanesByGame(readable)) {
+            if (!lane.isEmpty()) {
+                tasks.add(() -> {
+                    for (ConsumerRecord<String, GameEvent> record : lane) {
+                        try {
+                            process(record.value(), record.partition(), record.offset());
+                        } catch (RuntimeException e) {
+                            failures.add(new Failure(record, e));
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+
+        try {
+            if (tasks.size() == 1) {
+                tasks.getFirst().call();
+            } else {
+                batchWorkers.invokeAll(tasks);
+            }
+        } catch (InterruptedException e) {
+            // Not acknowledged, so the batch is delivered again after the rebalance or restart
+            Thread.currentThread().interrupt();
+            return;
         } catch (Exception e) {
-            logger.error("Error processing event: {}", event, e);
-            // In a real application, send to a dead letter queue
+            logger.error("Error processing batch of {} events", records.size(), e);
+        }
+
+        // A failed send throws, leaving the batch unacknowledged
+        for (Failure failure : failures) {
+            gameMetrics.incrementConsumerFailures(tier(failure.record().topic()));
+            logger.warn("Error processing event, moving it to {}: {}",
+                    batchFailureDestination(failure.record(), failure.exception()).topic(), failure.record().value(),
+                    failure.exception());
+            batchFailureRecoverer.accept(failure.record(), failure.exception());
         }
+
+        acknowledgment.acknowledge();
+        gameMetrics.recordConsumerBatch(records.size(), System.nanoTime() - start);
+        logger.debug("Processed batch of {} events in {} lanes", records.size(), tasks.size());
+    }
+
+    /**
+     * The retry topic listeners are copies of the record listener and share its auto-startup setting,
+     * so they are started here when the batch listener has replaced it on the main topic.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRetryListenersInBatchMode(ApplicationReadyEvent event) {
+        if (!batchEnabled) {
+            return;
+        }
+        KafkaListenerEndpointRegistry registry = event.getApplicationContext().getBean(KafkaListenerEndpointRegistry.class);
+        registry.getListenerContainers().stream()
+                .filter(container -> container.getListenerId() != null
+                        && container.getListenerId().startsWith(RECORD_LISTENER_ID + "-"))
+                .forEach(container -> container.start());
+    }
+
+    @Override
+    public void close() {
+        batchWorkers.shutdownNow();
+    }
+
+    /**
+     * Where the batch failure recoverer sends a record: {@value #DEAD_LETTER_TOPIC} if its value could not
+     * be deserialized, since that fails the same way on every attempt, otherwise {@value #FIRST_RETRY_TOPIC}.
+     */
+    public static TopicPartition batchFailureDestination(ConsumerRecord<?, ?> record, Exception exception) {
+        return new TopicPartition(record.value() == null ? DEAD_LETTER_TOPIC : FIRST_RETRY_TOPIC, -1);
+    }
+
+    /**
+     * Splits a batch into {@code parallelism} lanes by game id, keeping the batch order within each lane.
+     */
+    List<List<ConsumerRecord<String, GameEvent>>> lanesByGame(List<ConsumerRecord<String, GameEvent>> records) {
+        List<List<ConsumerRecord<String, GameEvent>>> lanes = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        for (ConsumerRecord<String, GameEvent> record : records) {
+            int lane = (record.value().getGameId().hashCode() & Integer.MAX_VALUE) % parallelism;
+            lanes.get(lane).add(record);
+        }
+        return lanes;
+    }
+
+    private static RuntimeException deserializationFailure(ConsumerRecord<String, GameEvent> record) {
+        DeserializationException exception = SerializationUtils.getExceptionFromHeader(
+                record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, HEADER_LOGGER);
+        return exception != null ? exception
+                : new IllegalArgumentException("Record " + record.topic() + "-" + record.partition() + "@"
+                        + record.offset() + " has no value");
+    }
+
+    private void process(GameEvent event, int partition, long offset) {
+        logger.info("Received event: type={}, gameId={}, partition={}, offset={}",
+                event.getEventType(), event.getGameId(), partition, offset);
+
+        processEvent(event);
+    }
+
+    /** {@code main} for the consumed topic, otherwise the retry tier, e.g. {@code retry-1}. */
+    static String tier(String topic) {
+        return topic.equals(TOPIC) ? "main" : topic.substring(TOPIC.length() + 1);
     }
 
     private void processEvent(GameEvent event) {
         switch (event.getEventType()) {
             case POINT_SCORED -> handlePointScored(event);
             case GAME_FINISHED -> handleGameFinished(event);
+            case GAME_SUMMARY -> GameSummaryCodec.expand(event).forEach(this::processEvent);
             default -> logger.warn("Unknown event type: {}", event.getEventType());
         }
     }
@@ -56,7 +284,10 @@ public class GameEventConsumer {
         logger.info("Processing point scored: Game={}, Player={}, Score={}",
                 event.getGameId(), event.getPlayer(), event.getDisplayScore());
 
-        // - Update real-time dashboards
+        Score score = new Score(event.getPlayerAScore(), event.getPlayerBScore());
+        liveScoreBroadcaster.publish(LiveGameResponse.from(
+                GameState.of(event.getGameId(), ScoreState.of(score))));
+
         // - Send notifications
         // - Update statistics
         // - Store in a database
@@ -71,4 +302,16 @@ public class GameEventConsumer {
         // - Archive the game
         // - Update player statistics
     }
+
+    private record Failure(ConsumerRecord<String, GameEvent> record, RuntimeException exception) {
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "game-event-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 }
@@ -0,0 +1,148 @@
+package com.tennis.infrastructure.messaging;
+
+import com.tennis.avro.GameEvent;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Writes {@link GameEvent}s in the schema registry wire format, {@code [0][schema id][avro binary]},
+ * without going through {@link KafkaAvroSerializer} for every record.
+ * <p>
+ * The first event sent to a topic is serialized by a {@link KafkaAvroSerializer} configured with the
+ * producer's settings, which registers or looks up the schema; its id is read back from the output and
+ * cached for the topic. The same event is then written with the generated schema and compared: if the
+ * bytes match, later events on that topic are written directly with a pooled encoder and buffer,
+ * otherwise (the registry's latest version is not the generated schema) the topic stays on
+ * {@link KafkaAvroSerializer}. Either way the bytes on the wire are the ones it would have produced.
+ * <p>
+ * Encoders and buffers are pooled rather than kept per thread: with virtual threads every request may
+ * send from a thread of its own, which would leave a thread-local set used once and then discarded.
+ */
+public class GameEventSerializer implements Serializer<GameEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameEventSerializer.class);
+
+    private static final byte MAGIC_BYTE = 0;
+    /** Schema id cached for a topic whose events must keep going through the registry serializer. */
+    private static final int DELEGATE = -1;
+
+    /** Enough for the threads serializing at once; when every slot is taken a send uses a new set. */
+    private static final int POOL_SLOTS = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+    private final KafkaAvroSerializer registrySerializer;
+    private final Map<String, Integer> schemaIds = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<EncodingBuffers> pool = new AtomicReferenceArray<>(POOL_SLOTS);
+
+    public GameEventSerializer() {
+        this(new KafkaAvroSerializer());
+    }
+
+    GameEventSerializer(KafkaAvroSerializer registrySerializer) {
+        this.registrySerializer = registrySerializer;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        registrySerializer.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, GameEvent event) {
+        if (event == null) {
+            return null;
+        }
+        Integer schemaId = schemaIds.get(topic);
+        if (schemaId == null) {
+            return serializeFirst(topic, event);
+        }
+        if (schemaId == DELEGATE) {
+            return registrySerializer.serialize(topic, event);
+        }
+        return write(schemaId, event);
+    }
+
+    private byte[] serializeFirst(String topic, GameEvent event) {
+        byte[] bytes = registrySerializer.serialize(topic, event);
+        int schemaId = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+        if (Arrays.equals(bytes, write(schemaId, event))) {
+            schemaIds.put(topic, schemaId);
+        } else {
+            logger.warn("Registered schema {} for topic {} differs from the generated GameEvent schema; "
+                    + "serializing through the schema registry", schemaId, topic);
+            schemaIds.put(topic, DELEGATE);
+        }
+        return bytes;
+    }
+
+    private byte[] write(int schemaId, GameEvent event) {
+        EncodingBuffers buffers = acquire();
+        try {
+            buffers.output.reset();
+            buffers.output.write(MAGIC_BYTE);
+            buffers.output.write(schemaId >>> 24);
+            buffers.output.write(schemaId >>> 16);
+            buffers.output.write(schemaId >>> 8);
+            buffers.output.write(schemaId);
+            buffers.encoder = EncoderFactory.get().directBinaryEncoder(buffers.output, buffers.encoder);
+            buffers.writer.write(event, buffers.encoder);
+            buffers.encoder.flush();
+            return buffers.output.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error serializing game event " + event.getGameId(), e);
+        } finally {
+            release(buffers);
+        }
+    }
+
+    private EncodingBuffers acquire() {
+        int first = firstSlot();
+        for (int i = 0; i < POOL_SLOTS; i++) {
+            int slot = (first + i) % POOL_SLOTS;
+            EncodingBuffers buffers = pool.get(slot);
+            if (buffers != null && pool.compareAndSet(slot, buffers, null)) {
+                return buffers;
+            }
+        }
+        return new EncodingBuffers();
+    }
+
+    private void release(EncodingBuffers buffers) {
+        int first = firstSlot();
+        for (int i = 0; i < POOL_SLOTS; i++) {
+            if (pool.compareAndSet((first + i) % POOL_SLOTS, null, buffers)) {
+                return;
+            }
+        }
+    }
+
+    /** Spreads threads over the pool so that concurrent senders rarely contend for the same slot. */
+    private static int firstSlot() {
+        return (int) (Thread.currentThread().threadId() % POOL_SLOTS);
+    }
+
+    @Override
+    public void close() {
+        registrySerializer.close();
+    }
+
+    /** A reusable output buffer, encoder and writer; none of them is safe to share between threads. */
+    private static final class EncodingBuffers {
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream(256);
+        private final SpecificDatumWriter<GameEvent> writer = new SpecificDatumWriter<>(GameEvent.getClassSchema());
+        private BinaryEncoder encoder;
+    }
+}
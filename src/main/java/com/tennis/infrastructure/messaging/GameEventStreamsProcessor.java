@@ -2,74 +2,117 @@ package com.tennis.infrastructure.messaging;
 
 import com.tennis.avro.EventType;
 import com.tennis.avro.GameEvent;
+import com.tennis.infrastructure.config.AvroSerdeSettings;
 import io.confluent.kafka.streams.serdes.avro.SpecificAvroSerde;
 import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
 import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Branched;
 import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
 import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Named;
 import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.state.KeyValueStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.annotation.EnableKafkaStreams;
 
-import java.util.Collections;
-import java.util.Map;
-
+/**
+ * Routes game events to the live and finished topics, keeps each game's latest state in the compacted
+ * {@value GameStateLoader#TOPIC} topic and keeps the aggregates that {@link StreamsStatsQueries} serves
+ * from its state stores.
+ * <p>
+ * Each event is expanded once, routed by a single topic-choosing sink and split once by type into the
+ * aggregates, so it is evaluated by two predicates rather than one filter per output. Per-event logging
+ * is at DEBUG; at INFO it dominated the cost of the topology.
+ */
 @Configuration
 @EnableKafkaStreams
 @Profile("kafka")
 public class GameEventStreamsProcessor {
 
+    public static final String GAME_EVENTS_TOPIC = "tennis-game-events";
+    public static final String LIVE_SCORES_TOPIC = "tennis-live-scores";
+    public static final String FINISHED_GAMES_TOPIC = "tennis-finished-games";
+
+    /** Points scored so far, by game id. */
+    public static final String POINTS_PER_GAME_STORE = "points-per-game";
+    /** Games won, by player ("A" or "B"). */
+    public static final String WINS_PER_PLAYER_STORE = "wins-per-player";
+    /** Winner, by id of a finished game. */
+    public static final String FINISHED_GAMES_STORE = "finished-games";
+
     private static final Logger logger = LoggerFactory.getLogger(GameEventStreamsProcessor.class);
 
-    @Value("${spring.kafka.schema-registry-url}")
-    private String schemaRegistryUrl;
+    private final AvroSerdeSettings avroSerdeSettings;
+
+    public GameEventStreamsProcessor(AvroSerdeSettings avroSerdeSettings) {
+        this.avroSerdeSettings = avroSerdeSettings;
+    }
 
     @Bean
     public KStream<String, GameEvent> processGameEvents(StreamsBuilder streamsBuilder) {
 
         // Configure Avro Serde
         final SpecificAvroSerde<GameEvent> gameEventSerde = new SpecificAvroSerde<>();
-        final Map<String, String> serdeConfig = Collections.singletonMap(
-                "schema.registry.url", schemaRegistryUrl);
-        gameEventSerde.configure(serdeConfig, false);
+        gameEventSerde.configure(avroSerdeSettings.properties(), false);
 
         // Create the main stream
         KStream<String, GameEvent> gameEvents = streamsBuilder.stream(
-                "tennis-game-events",
+                GAME_EVENTS_TOPIC,
                 Consumed.with(Serdes.String(), gameEventSerde)
         );
 
-        // Log all events
-        gameEvents.foreach((key, value) ->
-                logger.info("Processing event: gameId={}, type={}, player={}",
-                        value.getGameId(), value.getEventType(), value.getPlayer())
-        );
+        // Every event carries the full score, so the compacted state topic keeps each game's latest state
+        gameEvents.to(GameStateLoader.TOPIC, Produced.with(Serdes.String(), gameEventSerde));
+
+        // Summaries are expanded back into per-point events, so the derived topics keep their contents
+        KStream<String, GameEvent> pointEvents = gameEvents.flatMapValues(event -> {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Processing event: gameId={}, type={}, player={}",
+                        event.getGameId(), event.getEventType(), event.getPlayer());
+            }
+            return GameSummaryCodec.expand(event);
+        });
+
+        // Route finished and live scoring events with one sink instead of one filter per topic
+        pointEvents.to(
+                (gameId, event, recordContext) -> event.getIsFinished() ? FINISHED_GAMES_TOPIC : LIVE_SCORES_TOPIC,
+                Produced.with(Serdes.String(), gameEventSerde));
 
-        // Filter and route finished games
-        gameEvents
-                .filter((key, value) -> value.getIsFinished())
-                .to("tennis-finished-games", Produced.with(Serdes.String(), gameEventSerde));
-
-        // Filter and route live scoring events
-        gameEvents
-                .filter((key, value) -> !value.getIsFinished())
-                .to("tennis-live-scores", Produced.with(Serdes.String(), gameEventSerde));
-
-        // Create aggregated statistics
-        gameEvents
-                .filter((key, value) -> value.getEventType() == EventType.POINT_SCORED)
-                .groupByKey()
-                .count()
-                .toStream()
-                .foreach((gameId, pointCount) ->
-                        logger.info("Game {} has {} points scored", gameId, pointCount)
-                );
+        // Feed the aggregates from a single branch on the event type
+        pointEvents
+                .split(Named.as("game-event-"))
+                .branch((gameId, event) -> event.getEventType() == EventType.POINT_SCORED,
+                        Branched.withConsumer(points -> points
+                                .groupByKey(Grouped.with(Serdes.String(), gameEventSerde))
+                                .count(countStore(POINTS_PER_GAME_STORE)),
+                                "points"))
+                .branch((gameId, event) -> event.getEventType() == EventType.GAME_FINISHED && event.getWinner() != null,
+                        Branched.withConsumer(finishedGames -> {
+                            finishedGames
+                                    .groupBy((gameId, event) -> event.getWinner(),
+                                            Grouped.with(Serdes.String(), gameEventSerde))
+                                    .count(countStore(WINS_PER_PLAYER_STORE));
+                            finishedGames
+                                    .mapValues(GameEvent::getWinner)
+                                    .toTable(Materialized.<String, String, KeyValueStore<Bytes, byte[]>>as(FINISHED_GAMES_STORE)
+                                            .withKeySerde(Serdes.String())
+                                            .withValueSerde(Serdes.String()));
+                        }, "finished"))
+                .noDefaultBranch();
 
         return gameEvents;
     }
+
+    private static Materialized<String, Long, KeyValueStore<Bytes, byte[]>> countStore(String name) {
+        return Materialized.<String, Long, KeyValueStore<Bytes, byte[]>>as(name)
+                .withKeySerde(Serdes.String())
+                .withValueSerde(Serdes.Long());
+    }
 }
\ No newline at end of file
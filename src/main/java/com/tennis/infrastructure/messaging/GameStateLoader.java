@@ -0,0 +1,261 @@
+package com.tennis.infrastructure.messaging;
+
+import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Score;
+import com.tennis.domain.model.ScoreState;
+import com.tennis.domain.port.GameRepository;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Rebuilds the game repository after a restart from {@value #TOPIC}, the log-compacted topic to which
+ * {@link GameEventStreamsProcessor} writes every game's latest state.
+ * <p>
+ * Loading starts once the application has started, on a background thread, so the HTTP server is
+ * already up. Each partition is read from the beginning to its end offset at startup by its own
+ * consumer, and the partitions are read in parallel. A game that is already in the repository, e.g.
+ * recovered from the journal or played since the start, is kept as is: games are only inserted with
+ * {@link GameRepository#saveIfAbsent}. A game that finished longer ago than
+ * {@code tennis.repository.in-memory.finished-ttl} is skipped, since the repository evicted it before the
+ * restart and would evict it again right away. Until loading is done this health indicator reports
+ * {@code OUT_OF_SERVICE}, which holds back the readiness probe.
+ */
+@Component
+@Profile("kafka")
+public class GameStateLoader implements HealthIndicator {
+
+    public static final String TOPIC = "tennis-game-state";
+
+    private static final Logger logger = LoggerFactory.getLogger(GameStateLoader.class);
+    private static final int SAVE_BATCH_SIZE = 10_000;
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private enum Phase { LOADING, LOADED, FAILED }
+
+    private final ConsumerFactory<String, GameEvent> consumerFactory;
+    private final GameRepository gameRepository;
+    private final GameMetrics gameMetrics;
+    private final int parallelism;
+    private final Duration finishedTtl;
+    private final LongSupplier clock;
+    private final AtomicLong recordsRead = new AtomicLong();
+    private final AtomicLong gamesRestored = new AtomicLong();
+    private final AtomicLong gamesExpired = new AtomicLong();
+
+    private volatile Phase phase = Phase.LOADING;
+    private volatile Duration duration;
+    private volatile Exception failure;
+
+    /**
+     * @param parallelism partitions read at the same time, 0 = all of them
+     * @param finishedTtl how long the repository keeps a finished game, 0 = forever
+     */
+    public GameStateLoader(ConsumerFactory<String, GameEvent> consumerFactory,
+                           GameRepository gameRepository,
+                           GameMetrics gameMetrics,
+                           @Value("${tennis.kafka.state.rebuild.parallelism:0}") int parallelism,
+                           @Value("${tennis.repository.in-memory.finished-ttl:0s}") Duration finishedTtl) {
+        this(consumerFactory, gameRepository, gameMetrics, parallelism, finishedTtl, System::currentTimeMillis);
+    }
+
+    GameStateLoader(ConsumerFactory<String, GameEvent> consumerFactory,
+                    GameRepository gameRepository,
+                    GameMetrics gameMetrics,
+                    int parallelism,
+                    Duration finishedTtl,
+                    LongSupplier clock) {
+        this.consumerFactory = consumerFactory;
+        this.gameRepository = gameRepository;
+        this.gameMetrics = gameMetrics;
+        this.parallelism = parallelism;
+        this.finishedTtl = finishedTtl;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void startLoading() {
+        Thread loader = new Thread(this::loadQuietly, "game-state-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder health = switch (phase) {
+            case LOADING -> Health.outOfService();
+            case LOADED -> Health.up()
+                    .withDetail("durationMs", duration.toMillis())
+                    .withDetail("recordsPerSecond", recordsPerSecond(recordsRead.get(), duration));
+            // The repository then only holds games played since the restart, as before the rebuild existed
+            case FAILED -> Health.up().withDetail("error", String.valueOf(failure));
+        };
+        return health
+                .withDetail("phase", phase)
+                .withDetail("records", recordsRead.get())
+                .withDetail("games", gamesRestored.get())
+                .withDetail("expired", gamesExpired.get())
+                .build();
+    }
+
+    void loadQuietly() {
+        try {
+            load();
+        } catch (Exception e) {
+            logger.error("Could not rebuild game repository from {}", TOPIC, e);
+            failure = e;
+            phase = Phase.FAILED;
+        }
+    }
+
+    void load() throws Exception {
+        long start = System.nanoTime();
+        List<TopicPartition> partitions = partitions();
+
+        if (!partitions.isEmpty()) {
+            int threads = parallelism > 0 ? Math.min(parallelism, partitions.size()) : partitions.size();
+            ExecutorService readers = Executors.newFixedThreadPool(threads, readerThreadFactory());
+            try {
+                List<Future<?>> reads = new ArrayList<>();
+                for (TopicPartition partition : partitions) {
+                    reads.add(readers.submit(() -> {
+                        loadPartition(partition);
+                        return null;
+                    }));
+                }
+                for (Future<?> read : reads) {
+                    read.get();
+                }
+            } finally {
+                readers.shutdownNow();
+            }
+        }
+
+        duration = Duration.ofNanos(System.nanoTime() - start);
+        gameMetrics.recordStateRebuild(recordsRead.get(), duration.toNanos());
+        logger.info("Rebuilt {} games ({} expired) from {} records of {} ({} partitions) in {} ms, {} records/s",
+                gamesRestored.get(), gamesExpired.get(), recordsRead.get(), TOPIC, partitions.size(),
+                duration.toMillis(), recordsPerSecond(recordsRead.get(), duration));
+        phase = Phase.LOADED;
+    }
+
+    private List<TopicPartition> partitions() {
+        try (Consumer<String, GameEvent> consumer = createConsumer("metadata")) {
+            List<PartitionInfo> partitionInfos = consumer.partitionsFor(TOPIC);
+            if (partitionInfos == null) {
+                return List.of();
+            }
+            return partitionInfos.stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+        }
+    }
+
+    /**
+     * Reads one partition up to the end offset it had when the read started. A game's states are all in
+     * its key's partition, so the last one read is the latest.
+     */
+    private void loadPartition(TopicPartition partition) {
+        Map<String, LoadedState> latest = new HashMap<>();
+        try (Consumer<String, GameEvent> consumer = createConsumer(String.valueOf(partition.partition()))) {
+            consumer.assign(List.of(partition));
+            consumer.seekToBeginning(List.of(partition));
+            long endOffset = consumer.endOffsets(List.of(partition)).get(partition);
+
+            while (consumer.position(partition) < endOffset) {
+                for (ConsumerRecord<String, GameEvent> record : consumer.poll(POLL_TIMEOUT)) {
+                    recordsRead.incrementAndGet();
+                    if (record.value() == null) {
+                        latest.remove(record.key());
+                    } else {
+                        GameEvent event = record.value();
+                        latest.put(record.key(), new LoadedState(toGameState(event), event.getTimestamp()));
+                    }
+                }
+            }
+        }
+
+        long now = clock.getAsLong();
+        List<GameState> batch = new ArrayList<>(Math.min(latest.size(), SAVE_BATCH_SIZE));
+        for (LoadedState loaded : latest.values()) {
+            if (isExpired(loaded, now)) {
+                gamesExpired.incrementAndGet();
+                continue;
+            }
+            batch.add(loaded.gameState());
+            if (batch.size() == SAVE_BATCH_SIZE) {
+                saveBatch(batch);
+            }
+        }
+        saveBatch(batch);
+        logger.debug("Loaded {} games from {}", latest.size(), partition);
+    }
+
+    private boolean isExpired(LoadedState loaded, long now) {
+        return !finishedTtl.isZero()
+                && loaded.gameState().isFinished()
+                && now - loaded.timestamp() >= finishedTtl.toMillis();
+    }
+
+    private void saveBatch(List<GameState> batch) {
+        gamesRestored.addAndGet(gameRepository.saveAllIfAbsent(batch));
+        batch.clear();
+    }
+
+    private Consumer<String, GameEvent> createConsumer(String clientIdSuffix) {
+        Properties overrides = new Properties();
+        // Partitions are assigned, not subscribed, and no offsets are committed
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, SAVE_BATCH_SIZE);
+        return consumerFactory.createConsumer(null, "game-state-loader-", clientIdSuffix, overrides);
+    }
+
+    private static GameState toGameState(GameEvent event) {
+        Score score = new Score(event.getPlayerAScore(), event.getPlayerBScore());
+        return GameState.of(event.getGameId(), ScoreState.of(score));
+    }
+
+    /** @param timestamp when the state was reached, in epoch milliseconds */
+    private record LoadedState(GameState gameState, long timestamp) {}
+
+    private static long recordsPerSecond(long records, Duration duration) {
+        return (long) (records / (Math.max(duration.toNanos(), 1) / 1e9));
+    }
+
+    private static ThreadFactory readerThreadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "game-state-reader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
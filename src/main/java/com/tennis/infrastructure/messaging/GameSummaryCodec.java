@@ -0,0 +1,87 @@
+package com.tennis.infrastructure.messaging;
+
+import com.tennis.avro.EventType;
+import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.ScoreState;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packs the balls of a game into the bitmap of a {@code GAME_SUMMARY} event and expands such an event
+ * back into the {@code POINT_SCORED} and {@code GAME_FINISHED} events it stands for.
+ * <p>
+ * Bit {@code i} of the bitmap is bit {@code i % 8} of byte {@code i / 8}; a set bit is a ball won by
+ * player A. A regular game fits in a single byte.
+ */
+public final class GameSummaryCodec {
+
+    private GameSummaryCodec() {
+    }
+
+    public static ByteBuffer pack(List<Player> balls) {
+        byte[] bitmap = new byte[(balls.size() + 7) >>> 3];
+        for (int i = 0; i < balls.size(); i++) {
+            if (balls.get(i) == Player.A) {
+                bitmap[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        return ByteBuffer.wrap(bitmap);
+    }
+
+    public static List<Player> unpack(ByteBuffer bitmap, int count) {
+        if (count < 0 || count > (long) bitmap.remaining() * 8) {
+            throw new IllegalArgumentException(String.format(
+                    "Point count %d does not fit a bitmap of %d bytes", count, bitmap.remaining()));
+        }
+        int offset = bitmap.position();
+        List<Player> balls = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean wonByA = (bitmap.get(offset + (i >>> 3)) & (1 << (i & 7))) != 0;
+            balls.add(wonByA ? Player.A : Player.B);
+        }
+        return balls;
+    }
+
+    /**
+     * Replays a {@code GAME_SUMMARY} event as the events a per-point publisher would have sent, keeping
+     * its key fields, timestamp and metadata. Any other event is returned unchanged.
+     */
+    public static List<GameEvent> expand(GameEvent event) {
+        if (event.getEventType() != EventType.GAME_SUMMARY) {
+            return List.of(event);
+        }
+
+        List<Player> balls = event.getPointBitmap() != null
+                ? unpack(event.getPointBitmap(), event.getPointCount())
+                : List.of();
+        List<GameEvent> events = new ArrayList<>(balls.size() + 1);
+        ScoreState state = ScoreState.initial();
+        for (Player player : balls) {
+            state = state.next(player);
+            events.add(expandedEvent(event, EventType.POINT_SCORED, player.name(), state));
+        }
+        if (event.getIsFinished()) {
+            events.add(expandedEvent(event, EventType.GAME_FINISHED, null, state));
+        }
+        return events;
+    }
+
+    private static GameEvent expandedEvent(GameEvent summary, EventType eventType, String player,
+                                           ScoreState state) {
+        return GameEvent.newBuilder()
+                .setGameId(summary.getGameId())
+                .setEventType(eventType)
+                .setPlayer(player)
+                .setPlayerAScore(state.score().playerAPoints())
+                .setPlayerBScore(state.score().playerBPoints())
+                .setDisplayScore(state.displayScore())
+                .setIsFinished(state.isFinished())
+                .setWinner(state.winner() != null ? state.winner().name() : null)
+                .setTimestamp(summary.getTimestamp())
+                .setMetadata(summary.getMetadata())
+                .build();
+    }
+}
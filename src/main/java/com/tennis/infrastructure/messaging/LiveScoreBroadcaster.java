@@ -0,0 +1,176 @@
+package com.tennis.infrastructure.messaging;
+
+import com.tennis.application.dto.LiveGameResponse;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Fans live score updates out to the subscribers of each game.
+ * <p>
+ * Every subscriber has a single-slot mailbox: a new update replaces one that has not been delivered
+ * yet, so a slow subscriber only ever receives the latest score and never builds a backlog. Delivery
+ * runs on a virtual thread that exists only while a mailbox is being drained, so idle subscribers cost
+ * no thread and a subscriber blocked on a slow connection holds up nobody else. Publishing to a game
+ * without subscribers is a single map lookup.
+ */
+@Component
+public class LiveScoreBroadcaster implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveScoreBroadcaster.class);
+
+    // Placeholder held by a new mailbox until its snapshot or first update arrives
+    private static final LiveGameResponse AWAITING_SNAPSHOT = new LiveGameResponse(null, null, false, null);
+
+    private final Map<String, Set<Mailbox>> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final GameMetrics gameMetrics;
+
+    public LiveScoreBroadcaster(GameMetrics gameMetrics) {
+        this.gameMetrics = gameMetrics;
+        gameMetrics.registerLiveSubscribers(subscriberCount::get);
+    }
+
+    /**
+     * Receives the updates of one game. Calls for a subscriber never overlap.
+     */
+    public interface Subscriber {
+        void send(LiveGameResponse update) throws Exception;
+
+        /** Called once after the final score of the game has been sent. */
+        void complete();
+    }
+
+    public interface Subscription {
+        void cancel();
+    }
+
+    /**
+     * Registers {@code subscriber} and then sends it the current score from {@code snapshot}, unless a
+     * newer update has already been published. If {@code snapshot} throws, the subscription is cancelled
+     * and the exception propagates.
+     */
+    public Subscription subscribe(String gameId, Subscriber subscriber, Supplier<LiveGameResponse> snapshot) {
+        Mailbox mailbox = new Mailbox(gameId, subscriber);
+        channels.compute(gameId, (id, mailboxes) -> {
+            Set<Mailbox> channel = mailboxes != null ? mailboxes : ConcurrentHashMap.newKeySet();
+            channel.add(mailbox);
+            return channel;
+        });
+        subscriberCount.incrementAndGet();
+
+        try {
+            mailbox.offerSnapshot(snapshot.get());
+        } catch (RuntimeException e) {
+            mailbox.cancel();
+            throw e;
+        }
+        return mailbox;
+    }
+
+    public void publish(LiveGameResponse update) {
+        Set<Mailbox> channel = channels.get(update.gameId());
+        if (channel == null) {
+            return;
+        }
+        for (Mailbox mailbox : channel) {
+            mailbox.offer(update);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void close() {
+        deliveryExecutor.shutdownNow();
+    }
+
+    private final class Mailbox implements Subscription {
+
+        private final String gameId;
+        private final Subscriber subscriber;
+        private final AtomicReference<LiveGameResponse> latest = new AtomicReference<>(AWAITING_SNAPSHOT);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private Mailbox(String gameId, Subscriber subscriber) {
+            this.gameId = gameId;
+            this.subscriber = subscriber;
+        }
+
+        void offer(LiveGameResponse update) {
+            LiveGameResponse replaced = latest.getAndSet(update);
+            if (replaced != null && replaced != AWAITING_SNAPSHOT) {
+                gameMetrics.incrementLiveUpdatesConflated();
+            }
+            scheduleDrain();
+        }
+
+        void offerSnapshot(LiveGameResponse snapshot) {
+            // Loses against any update published since subscribing, which is at least as recent
+            if (latest.compareAndSet(AWAITING_SNAPSHOT, snapshot)) {
+                scheduleDrain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled.compareAndSet(false, true)) {
+                return;
+            }
+            channels.computeIfPresent(gameId, (id, mailboxes) -> {
+                mailboxes.remove(this);
+                return mailboxes.isEmpty() ? null : mailboxes;
+            });
+            subscriberCount.decrementAndGet();
+        }
+
+        private void scheduleDrain() {
+            if (!cancelled.get() && draining.compareAndSet(false, true)) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (!cancelled.get()) {
+                LiveGameResponse update = latest.getAndSet(null);
+                if (update == null) {
+                    draining.set(false);
+                    // An update that arrived after the swap above would otherwise wait for the next one
+                    if (latest.get() == null || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+
+                try {
+                    subscriber.send(update);
+                } catch (Exception e) {
+                    logger.debug("Dropping live score subscriber of game {}: {}", gameId, e.getMessage());
+                    cancel();
+                    return;
+                }
+
+                if (update.isFinished()) {
+                    cancel();
+                    subscriber.complete();
+                    return;
+                }
+            }
+        }
+    }
+}
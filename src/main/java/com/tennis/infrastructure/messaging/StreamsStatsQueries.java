@@ -0,0 +1,101 @@
+package com.tennis.infrastructure.messaging;
+
+import com.tennis.application.dto.StreamsAggregateResponse;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Optional;
+
+/**
+ * Reads single keys from the state stores of {@link GameEventStreamsProcessor}.
+ * <p>
+ * Each key lives in the store of the instance that owns its partition. A lookup on another instance is
+ * forwarded over HTTP to the owner found in the streams metadata, which answers from its local store;
+ * the forwarded request is flagged so that it is never forwarded again.
+ */
+@Component
+@Profile("kafka")
+public class StreamsStatsQueries {
+
+    public static final String FORWARDED_PARAM = "forwarded";
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamsStatsQueries.class);
+
+    private final StreamsBuilderFactoryBean streamsBuilderFactoryBean;
+    private final RestClient restClient;
+    private final HostInfo self;
+
+    public StreamsStatsQueries(StreamsBuilderFactoryBean streamsBuilderFactoryBean,
+                               RestClient.Builder restClientBuilder,
+                               @Value("${tennis.streams.application-server:localhost:8080}") String applicationServer) {
+        this.streamsBuilderFactoryBean = streamsBuilderFactoryBean;
+        this.restClient = restClientBuilder.build();
+        this.self = HostInfo.buildFromEndpoint(applicationServer);
+    }
+
+    /**
+     * Looks {@code key} up in {@code store}, forwarding to {@code path} on the owning instance if needed.
+     *
+     * @param forwarded whether this request was forwarded by another instance; it is then answered locally
+     * @throws InvalidStateStoreException while the store cannot be queried, e.g. during a rebalance
+     */
+    public Optional<StreamsAggregateResponse> find(String store, String key, String path, boolean forwarded) {
+        KafkaStreams streams = runningStreams();
+
+        if (!forwarded) {
+            KeyQueryMetadata metadata = streams.queryMetadataForKey(store, key, Serdes.String().serializer());
+            if (metadata == null || KeyQueryMetadata.NOT_AVAILABLE.equals(metadata)) {
+                throw new InvalidStateStoreException("No instance hosts store " + store + " yet");
+            }
+            if (!self.equals(metadata.activeHost())) {
+                return forward(metadata.activeHost(), path);
+            }
+        }
+
+        ReadOnlyKeyValueStore<String, Object> localStore = streams.store(
+                StoreQueryParameters.fromNameAndType(store, QueryableStoreTypes.keyValueStore()));
+        return Optional.ofNullable(localStore.get(key))
+                .map(value -> new StreamsAggregateResponse(store, key, value, self.host() + ":" + self.port()));
+    }
+
+    private Optional<StreamsAggregateResponse> forward(HostInfo owner, String path) {
+        logger.debug("Forwarding {} to {}:{}", path, owner.host(), owner.port());
+        ResponseEntity<StreamsAggregateResponse> response = restClient.get()
+                .uri(UriComponentsBuilder.newInstance()
+                        .scheme("http")
+                        .host(owner.host())
+                        .port(owner.port())
+                        .path(path)
+                        .queryParam(FORWARDED_PARAM, true)
+                        .build()
+                        .toUri())
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(), (request, notFound) -> { })
+                .toEntity(StreamsAggregateResponse.class);
+        return response.getStatusCode().is2xxSuccessful() ? Optional.ofNullable(response.getBody()) : Optional.empty();
+    }
+
+    private KafkaStreams runningStreams() {
+        KafkaStreams streams = streamsBuilderFactoryBean.getKafkaStreams();
+        if (streams == null || !streams.state().isRunningOrRebalancing()) {
+            throw new InvalidStateStoreException("Kafka Streams is not running");
+        }
+        return streams;
+    }
+}
@@ -1,20 +1,54 @@
 package com.tennis.infrastructure.monitoring;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 @Component
 public class GameMetrics {
 
+    private final MeterRegistry meterRegistry;
     private final Counter gamesPlayedCounter;
     private final Counter pointsScoredCounter;
+    private final Counter pointConflictsCounter;
     private final Counter playerAWinsCounter;
     private final Counter playerBWinsCounter;
     private final Timer gameProcessingTimer;
+    private final Timer repositoryFlushTimer;
+    private final DistributionSummary repositoryFlushBatchSize;
+    private final Counter repositoryHitCounter;
+    private final Counter repositoryMissCounter;
+    private final Map<String, Counter> repositoryEvictionCounters;
+    private final Counter repositoryArchiveFailuresCounter;
+    private final Counter liveUpdatesConflatedCounter;
+    private final Timer eventPublishLagTimer;
+    private final Counter eventsSpilledCounter;
+    private final Counter eventsSpooledCounter;
+    private final Counter eventsDrainedCounter;
+    private final Map<String, Counter> eventsDroppedCounters;
+    private final Counter journalRecordsCounter;
+    private final Timer journalCommitTimer;
+    private final DistributionSummary journalGroupSize;
+    private final Timer journalRecoveryTimer;
+    private final Counter journalRecoveredCounter;
+    private final Timer consumerBatchTimer;
+    private final DistributionSummary consumerBatchSize;
+    private final Map<String, Counter> consumerFailureCounters = new ConcurrentHashMap<>();
+    private final Counter consumerDeadLettersCounter;
+    private final Timer stateRebuildTimer;
+    private final Counter stateRebuildRecordsCounter;
 
     public GameMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
         this.gamesPlayedCounter = Counter.builder("tennis.games.played")
                 .description("Total number of tennis games played")
                 .register(meterRegistry);
@@ -23,6 +57,10 @@ public class GameMetrics {
                 .description("Total number of points scored")
                 .register(meterRegistry);
 
+        this.pointConflictsCounter = Counter.builder("tennis.points.conflicts")
+                .description("Live points retried because the game changed concurrently")
+                .register(meterRegistry);
+
         this.playerAWinsCounter = Counter.builder("tennis.games.won")
                 .tag("player", "A")
                 .description("Games won by Player A")
@@ -36,6 +74,100 @@ public class GameMetrics {
         this.gameProcessingTimer = Timer.builder("tennis.game.processing.time")
                 .description("Time taken to process a game")
                 .register(meterRegistry);
+
+        this.repositoryFlushTimer = Timer.builder("tennis.repository.flush.time")
+                .description("Time taken to flush buffered game states to the repository")
+                .register(meterRegistry);
+
+        this.repositoryFlushBatchSize = DistributionSummary.builder("tennis.repository.flush.batch.size")
+                .description("Number of game states written per repository flush")
+                .register(meterRegistry);
+
+        this.repositoryHitCounter = Counter.builder("tennis.repository.lookups")
+                .tag("result", "hit")
+                .description("Game lookups answered from the repository")
+                .register(meterRegistry);
+
+        this.repositoryMissCounter = Counter.builder("tennis.repository.lookups")
+                .tag("result", "miss")
+                .description("Game lookups that found no stored game")
+                .register(meterRegistry);
+
+        this.repositoryEvictionCounters = Map.of(
+                "size", evictionCounter(meterRegistry, "size"),
+                "bytes", evictionCounter(meterRegistry, "bytes"),
+                "ttl", evictionCounter(meterRegistry, "ttl")
+        );
+
+        this.repositoryArchiveFailuresCounter = Counter.builder("tennis.repository.archive.failures")
+                .description("Finished games kept in memory because the archive failed to take them")
+                .register(meterRegistry);
+
+        this.liveUpdatesConflatedCounter = Counter.builder("tennis.live.updates.conflated")
+                .description("Live score updates replaced before a slow subscriber received them")
+                .register(meterRegistry);
+
+        this.eventPublishLagTimer = Timer.builder("tennis.events.publish.lag")
+                .description("Time game events wait in the async publisher before being handed to the delegate")
+                .register(meterRegistry);
+
+        this.eventsSpilledCounter = Counter.builder("tennis.events.spilled")
+                .description("Game events queued beyond the async publisher's ring capacity")
+                .register(meterRegistry);
+
+        this.eventsSpooledCounter = Counter.builder("tennis.events.spooled")
+                .description("Game events written to the local spool because the broker was unavailable")
+                .register(meterRegistry);
+
+        this.eventsDrainedCounter = Counter.builder("tennis.events.spool.drained")
+                .description("Spooled game events republished to the broker")
+                .register(meterRegistry);
+
+        this.eventsDroppedCounters = Map.of(
+                "overflow", droppedEventsCounter(meterRegistry, "overflow"),
+                "interrupted", droppedEventsCounter(meterRegistry, "interrupted"),
+                "spool", droppedEventsCounter(meterRegistry, "spool")
+        );
+
+        this.journalRecordsCounter = Counter.builder("tennis.journal.records.written")
+                .description("Game state records written to the journal")
+                .register(meterRegistry);
+
+        this.journalCommitTimer = Timer.builder("tennis.journal.commit.time")
+                .description("Time taken to write and sync one journal group commit")
+                .register(meterRegistry);
+
+        this.journalGroupSize = DistributionSummary.builder("tennis.journal.commit.group.size")
+                .description("Number of records written per journal group commit")
+                .register(meterRegistry);
+
+        this.journalRecoveryTimer = Timer.builder("tennis.journal.recovery.time")
+                .description("Time taken to rebuild the repository from the journal at startup")
+                .register(meterRegistry);
+
+        this.journalRecoveredCounter = Counter.builder("tennis.journal.recovered.records")
+                .description("Game states replayed from snapshots and journal segments at startup")
+                .register(meterRegistry);
+
+        this.consumerBatchTimer = Timer.builder("tennis.consumer.batch.time")
+                .description("Time taken to process one batch of consumed game events")
+                .register(meterRegistry);
+
+        this.consumerBatchSize = DistributionSummary.builder("tennis.consumer.batch.size")
+                .description("Number of game events per consumed batch")
+                .register(meterRegistry);
+
+        this.consumerDeadLettersCounter = Counter.builder("tennis.consumer.dead.letters")
+                .description("Game events that failed every attempt and reached the dead-letter topic")
+                .register(meterRegistry);
+
+        this.stateRebuildTimer = Timer.builder("tennis.state.rebuild.time")
+                .description("Time taken to rebuild the repository from the game state topic at startup")
+                .register(meterRegistry);
+
+        this.stateRebuildRecordsCounter = Counter.builder("tennis.state.rebuild.records")
+                .description("Game state records read from the game state topic at startup")
+                .register(meterRegistry);
     }
 
     public void incrementGamesPlayed() {
@@ -46,6 +178,10 @@ public class GameMetrics {
         pointsScoredCounter.increment();
     }
 
+    public void incrementPointConflicts() {
+        pointConflictsCounter.increment();
+    }
+
     public void incrementPlayerWins(String player) {
         if ("A".equals(player)) {
             playerAWinsCounter.increment();
@@ -61,4 +197,130 @@ public class GameMetrics {
     public void recordGameProcessingTime(Timer.Sample sample) {
         sample.stop(gameProcessingTimer);
     }
-}
\ No newline at end of file
+
+    public void registerRepositoryQueueDepth(Supplier<Number> queueDepth) {
+        Gauge.builder("tennis.repository.queue.depth", queueDepth)
+                .description("Game states buffered by the write-behind repository and not yet flushed")
+                .register(meterRegistry);
+    }
+
+    public void recordRepositoryFlush(int batchSize, long durationNanos) {
+        repositoryFlushTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        repositoryFlushBatchSize.record(batchSize);
+    }
+
+    public void recordRepositoryLookup(boolean hit) {
+        (hit ? repositoryHitCounter : repositoryMissCounter).increment();
+    }
+
+    public void incrementRepositoryEvictions(String reason) {
+        Counter counter = repositoryEvictionCounters.get(reason);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    public void incrementRepositoryArchiveFailures() {
+        repositoryArchiveFailuresCounter.increment();
+    }
+
+    public void registerLiveSubscribers(Supplier<Number> subscribers) {
+        Gauge.builder("tennis.live.subscribers", subscribers)
+                .description("Open live score subscriptions")
+                .register(meterRegistry);
+    }
+
+    public void incrementLiveUpdatesConflated() {
+        liveUpdatesConflatedCounter.increment();
+    }
+
+    public void registerEventBufferOccupancy(Supplier<Number> occupancy) {
+        Gauge.builder("tennis.events.buffer.occupancy", occupancy)
+                .description("Game events queued in the async publisher and not yet published")
+                .register(meterRegistry);
+    }
+
+    public void recordEventPublishLag(long durationNanos) {
+        eventPublishLagTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void incrementEventsSpilled() {
+        eventsSpilledCounter.increment();
+    }
+
+    public void incrementEventsDropped(String reason) {
+        eventsDroppedCounters.get(reason).increment();
+    }
+
+    public void registerEventSpoolDepth(Supplier<Number> pending) {
+        Gauge.builder("tennis.events.spool.pending", pending)
+                .description("Game events in the local spool waiting to be republished")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param state ordinal of the breaker state: 0 closed, 1 open, 2 half-open
+     */
+    public void registerPublishCircuitState(Supplier<Number> state) {
+        Gauge.builder("tennis.events.circuit.state", state)
+                .description("State of the circuit breaker in front of the broker: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+    }
+
+    public void incrementEventsSpooledToDisk() {
+        eventsSpooledCounter.increment();
+    }
+
+    public void incrementEventsDrained(int events) {
+        eventsDrainedCounter.increment(events);
+    }
+
+    public void recordJournalCommit(int records, long durationNanos) {
+        journalRecordsCounter.increment(records);
+        journalCommitTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        journalGroupSize.record(records);
+    }
+
+    public void recordJournalRecovery(long records, long durationNanos) {
+        journalRecoveredCounter.increment(records);
+        journalRecoveryTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordConsumerBatch(int records, long durationNanos) {
+        consumerBatchTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        consumerBatchSize.record(records);
+    }
+
+    /**
+     * @param tier {@code main} for the consumed topic, otherwise the retry topic's suffix ({@code retry-0}, ...)
+     */
+    public void incrementConsumerFailures(String tier) {
+        consumerFailureCounters.computeIfAbsent(tier, t -> Counter.builder("tennis.consumer.failures")
+                .tag("tier", t)
+                .description("Game events whose processing failed, by the topic tier they were consumed from")
+                .register(meterRegistry)).increment();
+    }
+
+    public void incrementConsumerDeadLetters() {
+        consumerDeadLettersCounter.increment();
+    }
+
+    public void recordStateRebuild(long records, long durationNanos) {
+        stateRebuildRecordsCounter.increment(records);
+        stateRebuildTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Counter droppedEventsCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("tennis.events.dropped")
+                .tag("reason", reason)
+                .description("Game events discarded by the async publisher or because the spool failed to take them")
+                .register(meterRegistry);
+    }
+
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("tennis.repository.evictions")
+                .tag("reason", reason)
+                .description("Finished games evicted from the in-memory repository")
+                .register(meterRegistry);
+    }
+}
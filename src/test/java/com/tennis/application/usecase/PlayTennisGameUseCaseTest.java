@@ -1,5 +1,7 @@
 package com.tennis.application.usecase;
 
+import com.tennis.application.dto.BatchGameRequest;
+import com.tennis.application.dto.BatchGameResponse;
 import com.tennis.application.dto.GameRequest;
 import com.tennis.application.dto.GameResponse;
 import com.tennis.domain.service.TennisGameService;
@@ -9,10 +11,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -95,5 +101,48 @@ class PlayTennisGameUseCaseTest {
         assertTrue(response.isFinished());
         assertEquals("Player B", response.winner());
     }
-}
 
+    @Test
+    void shouldScoreBatchInRequestOrder() {
+        // Given
+        BatchGameRequest request = new BatchGameRequest(List.of("AAAA", "BB", "BBBB"));
+        when(tennisGameService.playGame(eq("AAAA"))).thenReturn(List.of("Player A wins the game"));
+        when(tennisGameService.playGame(eq("BB"))).thenReturn(List.of(
+                "Player A : 0 / Player B : 15",
+                "Player A : 0 / Player B : 30"
+        ));
+        when(tennisGameService.playGame(eq("BBBB"))).thenReturn(List.of("Player B wins the game"));
+
+        // When
+        BatchGameResponse response = useCase.executeBatch(request);
+
+        // Then
+        assertEquals(3, response.results().size());
+        assertEquals(3, response.succeeded());
+        assertEquals(0, response.failed());
+        assertEquals(0, response.results().get(0).index());
+        assertEquals("Player A", response.results().get(0).game().winner());
+        assertFalse(response.results().get(1).game().isFinished());
+        assertEquals("Player B", response.results().get(2).game().winner());
+    }
+
+    @Test
+    void shouldReportInvalidSequencesInline() {
+        // Given
+        BatchGameRequest request = new BatchGameRequest(Arrays.asList("AAAA", "ABC", "", null));
+        when(tennisGameService.playGame(eq("AAAA"))).thenReturn(List.of("Player A wins the game"));
+
+        // When
+        BatchGameResponse response = useCase.executeBatch(request);
+
+        // Then
+        assertEquals(1, response.succeeded());
+        assertEquals(3, response.failed());
+        assertNull(response.results().get(0).error());
+        assertEquals(GameRequest.INVALID_SEQUENCE_MESSAGE, response.results().get(1).error());
+        assertEquals(GameRequest.EMPTY_SEQUENCE_MESSAGE, response.results().get(2).error());
+        assertEquals(GameRequest.EMPTY_SEQUENCE_MESSAGE, response.results().get(3).error());
+        assertNull(response.results().get(1).game());
+        verify(tennisGameService, never()).playGame(eq("ABC"));
+    }
+}
\ No newline at end of file
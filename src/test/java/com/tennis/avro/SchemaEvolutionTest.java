@@ -1,6 +1,10 @@
 package com.tennis.avro;
 
 import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.*;
 import org.apache.avro.specific.SpecificDatumReader;
 import org.apache.avro.specific.SpecificDatumWriter;
@@ -8,11 +12,29 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class SchemaEvolutionTest {
 
+    // GameEvent as published before GAME_SUMMARY and the point bitmap were added
+    private static final Schema V1_SCHEMA = new Schema.Parser().parse("""
+            {"type":"record","name":"GameEvent","namespace":"com.tennis.avro","fields":[
+              {"name":"gameId","type":"string"},
+              {"name":"eventType","type":{"type":"enum","name":"EventType","symbols":["POINT_SCORED","GAME_FINISHED"]}},
+              {"name":"player","type":["null","string"],"default":null},
+              {"name":"playerAScore","type":"int"},
+              {"name":"playerBScore","type":"int"},
+              {"name":"displayScore","type":"string"},
+              {"name":"isFinished","type":"boolean"},
+              {"name":"winner","type":["null","string"],"default":null},
+              {"name":"timestamp","type":"long"},
+              {"name":"metadata","type":{"type":"record","name":"EventMetadata","fields":[
+                {"name":"version","type":"string","default":"1.0.0"},
+                {"name":"source","type":"string","default":"tennis-scoring-system"}]}}]}
+            """);
+
     @Test
     void shouldSerializeAndDeserializeGameEvent() throws IOException {
         // Given
@@ -78,4 +100,77 @@ class SchemaEvolutionTest {
         assertTrue(eventTypeSchema.getEnumSymbols().contains("POINT_SCORED"));
         assertTrue(eventTypeSchema.getEnumSymbols().contains("GAME_FINISHED"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReadEventsWrittenWithPreviousSchema() throws IOException {
+        // Given
+        GenericRecord metadata = new GenericData.Record(V1_SCHEMA.getField("metadata").schema());
+        metadata.put("version", "1.0.0");
+        metadata.put("source", "tennis-scoring-system");
+        GenericRecord v1Event = new GenericData.Record(V1_SCHEMA);
+        v1Event.put("gameId", "old-game");
+        v1Event.put("eventType", new GenericData.EnumSymbol(V1_SCHEMA.getField("eventType").schema(), "POINT_SCORED"));
+        v1Event.put("player", "B");
+        v1Event.put("playerAScore", 0);
+        v1Event.put("playerBScore", 1);
+        v1Event.put("displayScore", "Player A : 0 / Player B : 15");
+        v1Event.put("isFinished", false);
+        v1Event.put("timestamp", 42L);
+        v1Event.put("metadata", metadata);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Encoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new GenericDatumWriter<GenericRecord>(V1_SCHEMA).write(v1Event, encoder);
+        encoder.flush();
+
+        // When
+        DatumReader<GameEvent> reader = new SpecificDatumReader<>(V1_SCHEMA, GameEvent.getClassSchema());
+        GameEvent event = reader.read(null, DecoderFactory.get().binaryDecoder(out.toByteArray(), null));
+
+        // Then - the new fields take their defaults
+        assertEquals("old-game", event.getGameId());
+        assertEquals(EventType.POINT_SCORED, event.getEventType());
+        assertEquals(1, event.getPlayerBScore());
+        assertNull(event.getPointBitmap());
+        assertEquals(0, event.getPointCount());
+    }
+
+    @Test
+    void shouldStayBackwardCompatibleWithPreviousSchema() {
+        var compatibility = SchemaCompatibility.checkReaderWriterCompatibility(GameEvent.getClassSchema(), V1_SCHEMA);
+
+        assertEquals(SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE, compatibility.getType());
+    }
+
+    @Test
+    void shouldRoundTripGameSummary() throws IOException {
+        // Given - ABAAA, one bit per ball
+        GameEvent summary = GameEvent.newBuilder()
+                .setGameId("summary-game")
+                .setEventType(EventType.GAME_SUMMARY)
+                .setPlayerAScore(4)
+                .setPlayerBScore(1)
+                .setDisplayScore("Player A : 40 / Player B : 15")
+                .setIsFinished(true)
+                .setWinner("A")
+                .setTimestamp(42L)
+                .setMetadata(EventMetadata.newBuilder().build())
+                .setPointBitmap(ByteBuffer.wrap(new byte[]{0b11101}))
+                .setPointCount(5)
+                .build();
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Encoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new SpecificDatumWriter<>(GameEvent.class).write(summary, encoder);
+        encoder.flush();
+        GameEvent decoded = new SpecificDatumReader<>(GameEvent.class)
+                .read(null, DecoderFactory.get().binaryDecoder(out.toByteArray(), null));
+
+        // Then
+        assertEquals(summary, decoded);
+        assertEquals(EventType.GAME_SUMMARY, decoded.getEventType());
+        assertEquals(ByteBuffer.wrap(new byte[]{0b11101}), decoded.getPointBitmap());
+        assertEquals(5, decoded.getPointCount());
+    }
+}
@@ -0,0 +1,61 @@
+package com.tennis.benchmark;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.Score;
+import com.tennis.domain.model.ScoreState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring one ball on the immutable domain model, from a score before, at and after deuce.
+ * Run through {@link JmhBenchmarks}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainModelBenchmark {
+
+    /** Points of player A and player B, none of them a finished game. */
+    @Param({"0-0", "2-1", "3-3", "4-3"})
+    public String points;
+
+    private Score score;
+    private GameState gameState;
+
+    @Setup
+    public void setUp() {
+        String[] split = points.split("-");
+        score = new Score(Integer.parseInt(split[0]), Integer.parseInt(split[1]));
+        gameState = GameState.of("game-42", ScoreState.of(score));
+    }
+
+    @Benchmark
+    public Score scoreAddPoint() {
+        return score.addPoint(Player.B);
+    }
+
+    @Benchmark
+    public String scoreGetDisplayScore() {
+        return score.getDisplayScore(Player.A);
+    }
+
+    @Benchmark
+    public GameState gameStateAddPoint() {
+        return gameState.addPoint(Player.B);
+    }
+}
@@ -0,0 +1,131 @@
+package com.tennis.benchmark;
+
+import com.tennis.avro.EventMetadata;
+import com.tennis.avro.EventType;
+import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.adapter.KafkaGameEventPublisher;
+import com.tennis.infrastructure.messaging.GameEventSerializer;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Builds and serializes a {@code POINT_SCORED} event the way the Kafka publisher did before (a builder
+ * for the event and its metadata, then {@link KafkaAvroSerializer}) and the way it does now (the
+ * all-args constructor with shared metadata, then {@link GameEventSerializer}), and compares the bytes
+ * allocated per event as reported by JMH's GC profiler.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=GameEventSerializationBenchmark}, or with the other JMH
+ * benchmarks through {@link JmhBenchmarks}. Both paths use an in-memory schema registry, so registry
+ * round trips are not part of the measurement.
+ */
+@Tag("benchmark")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameEventSerializationBenchmark {
+
+    private static final String TOPIC = "tennis-game-events";
+
+    private KafkaAvroSerializer registrySerializer;
+    private GameEventSerializer gameEventSerializer;
+    private GameState gameState;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> config = new HashMap<>();
+        config.put("schema.registry.url", "mock://serialization-benchmark");
+        config.put("auto.register.schemas", true);
+        config.put("use.latest.version", true);
+        registrySerializer = new KafkaAvroSerializer();
+        registrySerializer.configure(config, false);
+        gameEventSerializer = new GameEventSerializer();
+        gameEventSerializer.configure(config, false);
+        gameState = GameState.initial("game-42").addPoint(Player.A).addPoint(Player.B).addPoint(Player.A);
+    }
+
+    @TearDown
+    public void tearDown() {
+        registrySerializer.close();
+        gameEventSerializer.close();
+    }
+
+    @Benchmark
+    public byte[] builderAndRegistrySerializer() {
+        EventMetadata metadata = EventMetadata.newBuilder()
+                .setVersion("1.0.0")
+                .setSource("tennis-scoring-system")
+                .build();
+        GameEvent event = GameEvent.newBuilder()
+                .setGameId(gameState.gameId())
+                .setEventType(EventType.POINT_SCORED)
+                .setPlayer(Player.A.name())
+                .setPlayerAScore(gameState.score().playerAPoints())
+                .setPlayerBScore(gameState.score().playerBPoints())
+                .setDisplayScore(gameState.displayScore())
+                .setIsFinished(gameState.isFinished())
+                .setWinner(gameState.winner() != null ? gameState.winner().name() : null)
+                .setTimestamp(Instant.now().toEpochMilli())
+                .setMetadata(metadata)
+                .build();
+        return registrySerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] constructorAndGameEventSerializer() {
+        GameEvent event = KafkaGameEventPublisher.createGameEvent(gameState, EventType.POINT_SCORED, Player.A.name());
+        return gameEventSerializer.serialize(TOPIC, event);
+    }
+
+    @Test
+    void allocatesAtLeastHalfAsMuchPerEvent() throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(GameEventSerializationBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+
+        double before = allocationPerOp(results, "builderAndRegistrySerializer");
+        double after = allocationPerOp(results, "constructorAndGameEventSerializer");
+        System.out.printf("Allocated per event: %.0f B before, %.0f B after (%.1fx less)%n",
+                before, after, before / after);
+        assertTrue(before >= 2 * after, "Expected at least 2x less allocation per event");
+    }
+
+    private static double allocationPerOp(Collection<RunResult> results, String benchmark) {
+        return results.stream()
+                .filter(result -> result.getParams().getBenchmark().endsWith("." + benchmark))
+                .mapToDouble(JmhResults::allocationPerOp)
+                .findFirst()
+                .orElseThrow();
+    }
+}
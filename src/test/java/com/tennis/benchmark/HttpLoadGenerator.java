@@ -0,0 +1,175 @@
+package com.tennis.benchmark;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the REST API at a target request rate from a fixed number of clients, each on its own virtual
+ * thread and each waiting for a response before sending its next request.
+ * <p>
+ * Every client sends on a schedule of {@code clients / rate} seconds per request. Latency is recorded
+ * from when a request was due rather than from when it was sent, so that a stalled server is charged for
+ * the requests its clients could not send in the meantime (coordinated omission); the time from sending
+ * to the response is recorded separately as service time. Four requests in five play a game whose balls
+ * are drawn until the game is won, with a per-game edge for player A, which gives the real mix of short
+ * games and long deuce battles; the rest read the statistics.
+ */
+class HttpLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final URI baseUri;
+    private final HttpClient httpClient;
+
+    HttpLoadGenerator(URI baseUri) {
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * @param clients           concurrent clients, i.e. the most requests in flight at once
+     * @param requestsPerSecond target rate over all clients
+     * @param duration          how long to send for
+     */
+    Report run(int clients, double requestsPerSecond, Duration duration) throws Exception {
+        long intervalNanos = (long) (clients * 1e9 / requestsPerSecond);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        List<Future<Report>> results = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                long firstDue = start + intervalNanos * i / clients;
+                long seed = i;
+                results.add(executor.submit(() -> runClient(firstDue, intervalNanos, end, new Random(seed))));
+            }
+        }
+
+        Report total = new Report();
+        for (Future<Report> result : results) {
+            total.add(result.get());
+        }
+        total.seconds = (System.nanoTime() - start) / 1e9;
+        return total;
+    }
+
+    private Report runClient(long firstDue, long intervalNanos, long end, Random random) {
+        Report report = new Report();
+        for (long due = firstDue; due < end; due += intervalNanos) {
+            long now = System.nanoTime();
+            if (now < due) {
+                LockSupport.parkNanos(due - now);
+            }
+            HttpRequest request = nextRequest(random);
+            long sent = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    report.errors++;
+                }
+            } catch (Exception e) {
+                report.errors++;
+            }
+            long received = System.nanoTime();
+            report.latency.recordValue(Math.min(received - due, HIGHEST_TRACKABLE_NANOS));
+            report.serviceTime.recordValue(Math.min(received - sent, HIGHEST_TRACKABLE_NANOS));
+            report.requests++;
+        }
+        return report;
+    }
+
+    private HttpRequest nextRequest(Random random) {
+        int pick = random.nextInt(10);
+        if (pick < 8) {
+            return HttpRequest.newBuilder(baseUri.resolve("/api/tennis/games"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"ballSequence\":\"" + ballSequence(random) + "\"}"))
+                    .build();
+        }
+        String path = pick == 8 ? "/api/tennis/stats" : "/api/tennis/stats/summary";
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET().build();
+    }
+
+    /**
+     * The balls of one game until it is won, player A winning each with a probability between 0.35 and
+     * 0.65 that is drawn per game.
+     */
+    static String ballSequence(Random random) {
+        double playerAWins = 0.35 + 0.3 * random.nextDouble();
+        StringBuilder balls = new StringBuilder();
+        int a = 0;
+        int b = 0;
+        while (Math.max(a, b) < 4 || Math.abs(a - b) < 2) {
+            if (random.nextDouble() < playerAWins) {
+                a++;
+                balls.append('A');
+            } else {
+                b++;
+                balls.append('B');
+            }
+        }
+        return balls.toString();
+    }
+
+    /** Requests sent, failures and latencies of one run. */
+    static final class Report {
+        private final Histogram latency = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final Histogram serviceTime = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private long requests;
+        private long errors;
+        private double seconds;
+
+        private void add(Report other) {
+            latency.add(other.latency);
+            serviceTime.add(other.serviceTime);
+            requests += other.requests;
+            errors += other.errors;
+        }
+
+        long requests() {
+            return requests;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        double throughput() {
+            return requests / seconds;
+        }
+
+        /** Latency from when the request was due, in milliseconds. */
+        double latencyMillis(double percentile) {
+            return latency.getValueAtPercentile(percentile) / 1e6;
+        }
+
+        void print(String label, PrintStream out) {
+            out.printf("%-24s %9.0f req/s  %7d requests  %5d errors%n", label, throughput(), requests, errors);
+            out.printf("%-24s p50 %8.2f ms  p99 %8.2f ms  p99.9 %8.2f ms  max %8.2f ms%n", "  latency",
+                    latencyMillis(50), latencyMillis(99), latencyMillis(99.9), latency.getMaxValue() / 1e6);
+            out.printf("%-24s p50 %8.2f ms  p99 %8.2f ms  p99.9 %8.2f ms  max %8.2f ms%n", "  service time",
+                    serviceTime.getValueAtPercentile(50) / 1e6, serviceTime.getValueAtPercentile(99) / 1e6,
+                    serviceTime.getValueAtPercentile(99.9) / 1e6, serviceTime.getMaxValue() / 1e6);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.tennis.benchmark;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.adapter.InMemoryGameRepository;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link InMemoryGameRepository} shared by four threads: all reading, all saving, and three reading while
+ * one scores points through {@link InMemoryGameRepository#replace}. Run through {@link JmhBenchmarks}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryGameRepositoryBenchmark {
+
+    private static final int GAMES = 10_000;
+
+    private InMemoryGameRepository repository;
+    private String[] gameIds;
+
+    /** Where a thread is in the game ids, starting at a random one so threads spread over the map. */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next = ThreadLocalRandom.current().nextInt(GAMES);
+
+        String nextGameId(String[] gameIds) {
+            next = next + 1 == gameIds.length ? 0 : next + 1;
+            return gameIds[next];
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        repository = new InMemoryGameRepository(new GameMetrics(new SimpleMeterRegistry()));
+        gameIds = new String[GAMES];
+        for (int i = 0; i < GAMES; i++) {
+            gameIds[i] = "game-" + i;
+            repository.save(GameState.initial(gameIds[i]));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        repository.close();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<GameState> findById(Cursor cursor) {
+        return repository.findById(cursor.nextGameId(gameIds));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public GameState save(Cursor cursor) {
+        GameState gameState = GameState.initial(cursor.nextGameId(gameIds));
+        repository.save(gameState);
+        return gameState;
+    }
+
+    @Benchmark
+    @Group("scoring")
+    @GroupThreads(3)
+    public Optional<GameState> findByIdWhileScoring(Cursor cursor) {
+        return repository.findById(cursor.nextGameId(gameIds));
+    }
+
+    @Benchmark
+    @Group("scoring")
+    @GroupThreads(1)
+    public boolean scorePoint(Cursor cursor) {
+        String gameId = cursor.nextGameId(gameIds);
+        GameState current = repository.findById(gameId).orElseThrow();
+        if (current.isFinished()) {
+            repository.save(GameState.initial(gameId));
+            return true;
+        }
+        return repository.replace(current, current.addPoint(Player.A));
+    }
+}
@@ -0,0 +1,39 @@
+package com.tennis.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs the JMH benchmarks of this package with the GC profiler, so that every result comes with its
+ * allocation rate ({@code gc.alloc.rate.norm} is bytes per operation), and writes them as JSON.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=JmhBenchmarks}. {@code -Djmh.include=<regex>} selects
+ * benchmarks, e.g. {@code DomainModel} or {@code playGame}, and {@code -Djmh.result=<file>} moves the
+ * JSON from {@code target/jmh/results.json}; keep earlier files to compare runs. Measure on an
+ * otherwise idle machine.
+ */
+@Tag("benchmark")
+class JmhBenchmarks {
+
+    private static final String INCLUDE = System.getProperty("jmh.include", JmhBenchmarks.class.getPackageName() + ".");
+    private static final Path RESULT = Path.of(System.getProperty("jmh.result", "target/jmh/results.json"));
+
+    @Test
+    void run() throws Exception {
+        Files.createDirectories(RESULT.toAbsolutePath().getParent());
+        new Runner(new OptionsBuilder()
+                .include(INCLUDE)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULT.toString())
+                .build())
+                .run();
+    }
+}
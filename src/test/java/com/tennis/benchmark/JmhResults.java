@@ -0,0 +1,37 @@
+package com.tennis.benchmark;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+import java.util.Map;
+
+/**
+ * Reading JMH results that were run with the GC profiler.
+ */
+final class JmhResults {
+
+    private static final String ALLOCATION_PER_OP = "gc.alloc.rate.norm";
+
+    private JmhResults() {
+    }
+
+    /** Bytes allocated per operation. */
+    static double allocationPerOp(RunResult result) {
+        return result.getSecondaryResults().entrySet().stream()
+                .filter(entry -> entry.getKey().endsWith(ALLOCATION_PER_OP))
+                .map(Map.Entry::getValue)
+                .mapToDouble(Result::getScore)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No allocation result; is the GC profiler enabled?"));
+    }
+
+    /** The benchmark's class and method in this package, followed by its parameter values if it has any. */
+    static String name(RunResult result) {
+        String benchmark = result.getParams().getBenchmark();
+        StringBuilder name = new StringBuilder(benchmark.substring(JmhResults.class.getPackageName().length() + 1));
+        for (String key : result.getParams().getParamsKeys()) {
+            name.append('@').append(result.getParams().getParam(key));
+        }
+        return name.toString();
+    }
+}
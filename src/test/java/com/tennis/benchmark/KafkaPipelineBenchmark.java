@@ -0,0 +1,349 @@
+package com.tennis.benchmark;
+
+import com.tennis.avro.EventType;
+import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.adapter.KafkaGameEventPublisher;
+import com.tennis.infrastructure.config.AvroSerdeSettings;
+import com.tennis.infrastructure.config.ProducerProfile;
+import com.tennis.infrastructure.messaging.GameEventSerializer;
+import com.tennis.infrastructure.messaging.GameEventStreamsProcessor;
+import com.tennis.infrastructure.messaging.GameStateLoader;
+import io.confluent.kafka.schemaregistry.testutil.MockSchemaRegistry;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroDeserializerConfig;
+import io.confluent.kafka.streams.serdes.avro.SpecificAvroSerde;
+import org.HdrHistogram.Histogram;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the whole event pipeline on an embedded broker: the publisher's producer settings and serializer
+ * write to {@code tennis-game-events}, the application's Streams topology routes the events to the
+ * live-score and finished-game topics, and consumers with the listener's settings read both ends.
+ * <p>
+ * For each producer profile and consumer fetch setting it reports the records/s the producer sustained,
+ * the produce-to-consume latency on {@code tennis-game-events} and through the Streams topology to its
+ * output topics, and the largest Streams consumer lag sampled during the run. Each run gets a fresh
+ * broker, with the in-memory schema registry standing in for the real one.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=KafkaPipelineBenchmark}; {@code -Dbenchmark.records=N}
+ * changes the number of measured events and {@code -Dbenchmark.partitions=N} the partitions of the event
+ * topic. Producer, broker, Streams and consumers share one JVM and machine, so compare the settings with
+ * each other; the absolute figures are a lower bound for a real cluster.
+ */
+@Tag("benchmark")
+class KafkaPipelineBenchmark {
+
+    private static final String REGISTRY_SCOPE = "pipeline-benchmark";
+    private static final int RECORDS = Integer.getInteger("benchmark.records", 200_000);
+    private static final int WARMUP_RECORDS = Integer.getInteger("benchmark.warmup-records", 20_000);
+    private static final int PARTITIONS = Integer.getInteger("benchmark.partitions", 4);
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final String SENT_AT_HEADER = "benchmark-sent-nanos";
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    /** Consumer settings of the listener container, as set through {@code tennis.kafka.consumer.*}. */
+    record ConsumerFetch(String name, int fetchMinBytes, Duration fetchMaxWait, int maxPollRecords) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static final List<ConsumerFetch> CONSUMER_FETCHES = List.of(
+            new ConsumerFetch("fetch-eager", 1, Duration.ofMillis(500), 500),
+            new ConsumerFetch("fetch-64k", 64 * 1024, Duration.ofMillis(100), 2000));
+
+    @TempDir
+    Path stateDirectory;
+
+    private EmbeddedKafkaBroker broker;
+    private AvroSerdeSettings avroSerdeSettings;
+
+    static Stream<Arguments> settings() {
+        return Stream.of(ProducerProfile.values())
+                .flatMap(profile -> CONSUMER_FETCHES.stream()
+                        .map(fetch -> Arguments.of(profile, fetch)));
+    }
+
+    @BeforeEach
+    void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, GameEventStreamsProcessor.GAME_EVENTS_TOPIC,
+                GameEventStreamsProcessor.LIVE_SCORES_TOPIC, GameEventStreamsProcessor.FINISHED_GAMES_TOPIC,
+                GameStateLoader.TOPIC);
+        broker.afterPropertiesSet();
+        avroSerdeSettings = AvroSerdeSettings.registry("mock://" + REGISTRY_SCOPE);
+    }
+
+    @AfterEach
+    void stopBroker() {
+        broker.destroy();
+        MockSchemaRegistry.dropScope(REGISTRY_SCOPE);
+    }
+
+    @ParameterizedTest(name = "{0} / {1}")
+    @MethodSource("settings")
+    void publishThroughStreams(ProducerProfile profile, ConsumerFetch fetch) throws Exception {
+        String applicationId = "pipeline-benchmark-" + profile + "-" + fetch;
+        try (KafkaStreams streams = startStreams(applicationId);
+             Admin admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()));
+             LatencyReader eventsReader = new LatencyReader(consumer(fetch, "events"),
+                     List.of(GameEventStreamsProcessor.GAME_EVENTS_TOPIC));
+             LatencyReader outputReader = new LatencyReader(consumer(fetch, "output"),
+                     List.of(GameEventStreamsProcessor.LIVE_SCORES_TOPIC, GameEventStreamsProcessor.FINISHED_GAMES_TOPIC));
+             KafkaProducer<String, GameEvent> producer = new KafkaProducer<>(producerProperties(profile))) {
+
+            List<GameEvent> events = gameEvents();
+            send(producer, events, WARMUP_RECORDS);
+            eventsReader.await(WARMUP_RECORDS);
+            outputReader.await(WARMUP_RECORDS);
+            eventsReader.reset();
+            outputReader.reset();
+
+            LagSampler lag = new LagSampler(admin, applicationId);
+            long start = System.nanoTime();
+            send(producer, events, RECORDS);
+            double produceSeconds = (System.nanoTime() - start) / 1e9;
+            eventsReader.await(RECORDS);
+            outputReader.await(RECORDS);
+            lag.close();
+
+            System.out.printf("%-16s %-12s %10.0f records/s%n", profile, fetch, RECORDS / produceSeconds);
+            eventsReader.print("to consumer");
+            outputReader.print("through streams");
+            System.out.printf("  %-22s max %d records%n", "streams lag", lag.maxLag());
+            assertEquals(RECORDS, eventsReader.received());
+            assertEquals(RECORDS, outputReader.received());
+        }
+    }
+
+    private KafkaStreams startStreams(String applicationId) throws InterruptedException {
+        StreamsBuilder streamsBuilder = new StreamsBuilder();
+        new GameEventStreamsProcessor(avroSerdeSettings).processGameEvents(streamsBuilder);
+
+        Map<String, Object> props = new HashMap<>(avroSerdeSettings.properties());
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, applicationId);
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        props.put(StreamsConfig.STATE_DIR_CONFIG, stateDirectory.toString());
+        props.put(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG, Serdes.String().getClass());
+        props.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, SpecificAvroSerde.class);
+        // Frequent commits, so that the committed offsets the lag is sampled from follow processing
+        props.put(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG, 100);
+        KafkaStreams streams = new KafkaStreams(streamsBuilder.build(), new StreamsConfig(props));
+        streams.start();
+
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (streams.state() != KafkaStreams.State.RUNNING) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Streams did not start: " + streams.state());
+            }
+            Thread.sleep(100);
+        }
+        return streams;
+    }
+
+    private Map<String, Object> producerProperties(ProducerProfile profile) {
+        Map<String, Object> props = new HashMap<>(profile.tuning().producerProperties());
+        props.putAll(avroSerdeSettings.properties());
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, GameEventSerializer.class);
+        return props;
+    }
+
+    private KafkaConsumer<String, GameEvent> consumer(ConsumerFetch fetch, String group) {
+        Map<String, Object> props = new HashMap<>(avroSerdeSettings.properties());
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "pipeline-benchmark-" + group);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, KafkaAvroDeserializer.class);
+        props.put(KafkaAvroDeserializerConfig.SPECIFIC_AVRO_READER_CONFIG, true);
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetch.fetchMinBytes());
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, (int) fetch.fetchMaxWait().toMillis());
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, fetch.maxPollRecords());
+        return new KafkaConsumer<>(props);
+    }
+
+    /**
+     * Sends {@code count} events as fast as the producer accepts them, each stamped with its send time.
+     */
+    private static void send(KafkaProducer<String, GameEvent> producer, List<GameEvent> events, int count) {
+        for (int i = 0; i < count; i++) {
+            GameEvent event = events.get(i % events.size());
+            ProducerRecord<String, GameEvent> record =
+                    new ProducerRecord<>(GameEventStreamsProcessor.GAME_EVENTS_TOPIC, event.getGameId(), event);
+            record.headers().add(SENT_AT_HEADER, ByteBuffer.allocate(Long.BYTES).putLong(System.nanoTime()).array());
+            producer.send(record);
+        }
+        producer.flush();
+    }
+
+    /** The events of 1,000 games of 6 points each, as the Kafka publisher builds them. */
+    private static List<GameEvent> gameEvents() {
+        List<GameEvent> gameEvents = new ArrayList<>();
+        for (int game = 0; game < 1_000; game++) {
+            GameState gameState = GameState.initial("game-" + game);
+            for (char ball : "ABABAA".toCharArray()) {
+                Player player = ball == 'A' ? Player.A : Player.B;
+                gameState = gameState.addPoint(player);
+                gameEvents.add(KafkaGameEventPublisher.createGameEvent(gameState, EventType.POINT_SCORED, player.name()));
+            }
+        }
+        return gameEvents;
+    }
+
+    /**
+     * Polls topics on its own thread and records how long after its send each record arrived. The
+     * Streams topology keeps the headers of the event it routes, so its output carries the send time too.
+     */
+    private static final class LatencyReader implements AutoCloseable {
+        private final KafkaConsumer<String, GameEvent> consumer;
+        private final Thread thread;
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final AtomicLong received = new AtomicLong();
+        private final Histogram latency = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+
+        LatencyReader(KafkaConsumer<String, GameEvent> consumer, List<String> topics) {
+            this.consumer = consumer;
+            consumer.subscribe(topics);
+            this.thread = new Thread(this::poll, "pipeline-benchmark-reader");
+            thread.start();
+        }
+
+        private void poll() {
+            while (running.get()) {
+                for (ConsumerRecord<String, GameEvent> record : consumer.poll(Duration.ofMillis(100))) {
+                    long now = System.nanoTime();
+                    Header sentAt = record.headers().lastHeader(SENT_AT_HEADER);
+                    synchronized (latency) {
+                        latency.recordValue(Math.min(now - ByteBuffer.wrap(sentAt.value()).getLong(),
+                                HIGHEST_TRACKABLE_NANOS));
+                    }
+                    received.incrementAndGet();
+                }
+            }
+        }
+
+        void await(long count) throws InterruptedException {
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (received.get() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        void reset() {
+            synchronized (latency) {
+                latency.reset();
+            }
+            received.set(0);
+        }
+
+        long received() {
+            return received.get();
+        }
+
+        void print(String label) {
+            synchronized (latency) {
+                System.out.printf("  %-22s p50 %8.2f ms  p99 %8.2f ms  p99.9 %8.2f ms  max %8.2f ms%n", label,
+                        latency.getValueAtPercentile(50) / 1e6, latency.getValueAtPercentile(99) / 1e6,
+                        latency.getValueAtPercentile(99.9) / 1e6, latency.getMaxValue() / 1e6);
+            }
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            running.set(false);
+            thread.join();
+            consumer.close();
+        }
+    }
+
+    /**
+     * Samples, every 100 ms, how far the Streams application's committed offsets on the event topic are
+     * behind its end. Streams commits every 100 ms here, so this is at most that much behind processing.
+     */
+    private static final class LagSampler implements AutoCloseable {
+        private final Admin admin;
+        private final String applicationId;
+        private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        private final AtomicLong maxLag = new AtomicLong();
+
+        LagSampler(Admin admin, String applicationId) {
+            this.admin = admin;
+            this.applicationId = applicationId;
+            sampler.scheduleAtFixedRate(this::sample, 0, 100, TimeUnit.MILLISECONDS);
+        }
+
+        private void sample() {
+            try {
+                Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(applicationId)
+                        .partitionsToOffsetAndMetadata().get();
+                Map<TopicPartition, OffsetSpec> latest = new HashMap<>();
+                committed.keySet().stream()
+                        .filter(partition -> partition.topic().equals(GameEventStreamsProcessor.GAME_EVENTS_TOPIC))
+                        .forEach(partition -> latest.put(partition, OffsetSpec.latest()));
+                long lag = 0;
+                for (var end : admin.listOffsets(latest).all().get().entrySet()) {
+                    lag += end.getValue().offset() - committed.get(end.getKey()).offset();
+                }
+                maxLag.accumulateAndGet(lag, Math::max);
+            } catch (Exception e) {
+                // The group has not committed yet
+            }
+        }
+
+        long maxLag() {
+            return maxLag.get();
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            sampler.shutdown();
+            sampler.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.tennis.benchmark;
+
+import com.tennis.avro.EventMetadata;
+import com.tennis.avro.EventType;
+import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.config.ProducerProfile;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Sends game events through each {@link ProducerProfile} to an embedded broker and reports throughput
+ * and send latency (from {@code send} to acknowledgement).
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}; {@code -Dbenchmark.records=N} changes the number of measured
+ * records. Absolute numbers depend on the machine and an in-process broker has no network hop, so
+ * compare the profiles with each other rather than with production.
+ */
+@Tag("benchmark")
+class KafkaProducerBenchmark {
+
+    private static final String TOPIC = "tennis-game-events";
+    private static final int RECORDS = Integer.getInteger("benchmark.records", 200_000);
+    private static final int WARMUP_RECORDS = Integer.getInteger("benchmark.warmup-records", 20_000);
+    private static final int GAMES = 1_000;
+
+    private static EmbeddedKafkaBroker broker;
+    private static List<GameEvent> events;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 4, TOPIC);
+        broker.afterPropertiesSet();
+        events = gameEvents();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ProducerProfile.class)
+    void sendGameEvents(ProducerProfile profile) {
+        Map<String, Object> props = new HashMap<>(profile.tuning().producerProperties());
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, KafkaAvroSerializer.class);
+        props.put("schema.registry.url", "mock://producer-benchmark");
+
+        try (KafkaProducer<String, GameEvent> producer = new KafkaProducer<>(props)) {
+            send(producer, new long[WARMUP_RECORDS]);
+
+            long[] latencies = new long[RECORDS];
+            long start = System.nanoTime();
+            int failures = send(producer, latencies);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            Arrays.sort(latencies);
+            System.out.printf("%-16s %10.0f records/s   p50 %7.2f ms   p99 %7.2f ms   max %7.2f ms%n",
+                    profile, RECORDS / seconds,
+                    millis(latencies, 0.50), millis(latencies, 0.99), millis(latencies, 1.0));
+            assertEquals(0, failures);
+        }
+    }
+
+    /**
+     * Sends {@code latencies.length} events, records each one's send latency and waits for all of them.
+     */
+    private static int send(KafkaProducer<String, GameEvent> producer, long[] latencies) {
+        AtomicInteger failures = new AtomicInteger();
+        for (int i = 0; i < latencies.length; i++) {
+            GameEvent event = events.get(i % events.size());
+            int index = i;
+            long sentAt = System.nanoTime();
+            producer.send(new ProducerRecord<>(TOPIC, event.getGameId(), event), (metadata, exception) -> {
+                latencies[index] = System.nanoTime() - sentAt;
+                if (exception != null) {
+                    failures.incrementAndGet();
+                }
+            });
+        }
+        producer.flush();
+        return failures.get();
+    }
+
+    private static double millis(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1e6;
+    }
+
+    /** The events of {@value #GAMES} games of 6 points each, as the Kafka publisher builds them. */
+    private static List<GameEvent> gameEvents() {
+        EventMetadata metadata = EventMetadata.newBuilder()
+                .setVersion("1.0.0")
+                .setSource("tennis-scoring-system")
+                .build();
+        List<GameEvent> gameEvents = new ArrayList<>();
+        for (int game = 0; game < GAMES; game++) {
+            GameState gameState = GameState.initial("game-" + game);
+            for (char ball : "ABABAA".toCharArray()) {
+                Player player = ball == 'A' ? Player.A : Player.B;
+                gameState = gameState.addPoint(player);
+                gameEvents.add(GameEvent.newBuilder()
+                        .setGameId(gameState.gameId())
+                        .setEventType(EventType.POINT_SCORED)
+                        .setPlayer(player.name())
+                        .setPlayerAScore(gameState.score().playerAPoints())
+                        .setPlayerBScore(gameState.score().playerBPoints())
+                        .setDisplayScore(gameState.displayScore())
+                        .setIsFinished(gameState.isFinished())
+                        .setWinner(gameState.winner() != null ? gameState.winner().name() : null)
+                        .setTimestamp(System.currentTimeMillis())
+                        .setMetadata(metadata)
+                        .build());
+            }
+        }
+        return gameEvents;
+    }
+}
@@ -0,0 +1,127 @@
+package com.tennis.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fails when a hot path allocates more than recorded in the committed baseline.
+ * <p>
+ * Runs a fixed subset of the JMH benchmarks and compares the bytes each result allocates per operation
+ * with {@code src/test/resources/benchmark/perf-baseline.properties}. Allocation may grow by
+ * {@code perf.gate.allocation-tolerance} (default 10%, and at least 16 bytes) before the gate fails. A
+ * gated benchmark without a baseline entry fails the gate unless {@code -Dperf.gate.allow-missing=true}
+ * is given. Throughput is printed for reference but not gated, since it depends on the machine.
+ * <p>
+ * Run with {@code mvn test -Pperf-gate}. After an intended change, record the baseline again with
+ * {@code mvn test -Pperf-gate -Dperf.gate.update=true} and commit the file.
+ */
+@Tag("perf-gate")
+class PerformanceGateTest {
+
+    private static final List<String> GATED_BENCHMARKS = List.of(
+            DomainModelBenchmark.class.getName() + ".scoreAddPoint",
+            DomainModelBenchmark.class.getName() + ".scoreGetDisplayScore",
+            DomainModelBenchmark.class.getName() + ".gameStateAddPoint",
+            TennisGameServiceBenchmark.class.getName() + ".playGame");
+
+    private static final Path BASELINE = Path.of(System.getProperty("perf.gate.baseline",
+            "src/test/resources/benchmark/perf-baseline.properties"));
+    private static final double ALLOCATION_TOLERANCE =
+            Double.parseDouble(System.getProperty("perf.gate.allocation-tolerance", "0.10"));
+    private static final double ALLOCATION_SLACK_BYTES = 16;
+    private static final boolean UPDATE = Boolean.getBoolean("perf.gate.update");
+    private static final boolean ALLOW_MISSING = Boolean.getBoolean("perf.gate.allow-missing");
+
+    private static final String ALLOCATION = ".bytes-per-op";
+
+    @Test
+    void hotPathsShouldNotRegress() throws Exception {
+        OptionsBuilder options = new OptionsBuilder();
+        GATED_BENCHMARKS.forEach(benchmark -> options.include(Pattern.quote(benchmark) + "$"));
+        Collection<RunResult> results = new Runner(options.addProfiler(GCProfiler.class).build()).run();
+
+        // Bytes allocated per operation, and throughput for reference, by benchmark name
+        Map<String, Double> measured = new TreeMap<>();
+        Map<String, Double> throughput = new TreeMap<>();
+        for (RunResult result : results) {
+            String name = JmhResults.name(result);
+            measured.put(name, JmhResults.allocationPerOp(result));
+            throughput.put(name, result.getPrimaryResult().getScore());
+        }
+        for (String benchmark : GATED_BENCHMARKS) {
+            assertTrue(results.stream().anyMatch(result -> result.getParams().getBenchmark().equals(benchmark)),
+                    "Gated benchmark " + benchmark + " did not run");
+        }
+        if (UPDATE) {
+            writeBaseline(measured);
+            System.out.println("Recorded " + results.size() + " benchmarks in " + BASELINE);
+            return;
+        }
+
+        Properties baseline = readBaseline();
+        List<String> missing = new ArrayList<>();
+        List<String> regressions = new ArrayList<>();
+        measured.forEach((name, value) -> {
+            String key = name + ALLOCATION;
+            String recorded = baseline.getProperty(key);
+            if (recorded == null) {
+                System.out.printf("%-60s %12.2f   (no baseline)%n", key, value);
+                missing.add(key);
+                return;
+            }
+            double expected = Double.parseDouble(recorded);
+            boolean regressed =
+                    value > Math.max(expected * (1 + ALLOCATION_TOLERANCE), expected + ALLOCATION_SLACK_BYTES);
+            System.out.printf("%-60s %12.2f   baseline %12.2f   %+6.1f%%   %10.2f ops/us%s%n", key, value,
+                    expected, expected == 0 ? 0 : (value - expected) * 100 / expected, throughput.get(name),
+                    regressed ? "   REGRESSION" : "");
+            if (regressed) {
+                regressions.add(String.format("%s: %.2f, baseline %.2f", key, value, expected));
+            }
+        });
+        assertTrue(regressions.isEmpty(), "Allocation regressions against " + BASELINE + ":\n"
+                + String.join("\n", regressions));
+        assertTrue(missing.isEmpty() || ALLOW_MISSING, "No baseline in " + BASELINE + " for:\n"
+                + String.join("\n", missing) + "\nRecord it with -Dperf.gate.update=true");
+    }
+
+    private static Properties readBaseline() throws IOException {
+        Properties baseline = new Properties();
+        if (Files.exists(BASELINE)) {
+            try (Reader reader = Files.newBufferedReader(BASELINE)) {
+                baseline.load(reader);
+            }
+        }
+        return baseline;
+    }
+
+    /** Sorted and without a timestamp, so that a new baseline diffs cleanly against the old one. */
+    private static void writeBaseline(Map<String, Double> measured) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# Recorded by PerformanceGateTest with -Dperf.gate.update=true; see its documentation.");
+        lines.add("# <benchmark>[@<param>].bytes-per-op is the allocation per operation.");
+        measured.forEach((name, value) ->
+                lines.add(name + ALLOCATION + "=" + String.format(Locale.ROOT, "%.2f", value)));
+        Files.createDirectories(BASELINE.toAbsolutePath().getParent());
+        Files.write(BASELINE, lines);
+    }
+}
@@ -0,0 +1,46 @@
+package com.tennis.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Puts the REST API of an embedded instance, in the default (non-Kafka) profile, under load with
+ * {@link HttpLoadGenerator} and prints the achieved throughput and the p50/p99/p99.9 latencies.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=RestApiLoadTest}. {@code -Dloadtest.rate} (requests/s),
+ * {@code -Dloadtest.clients}, {@code -Dloadtest.duration} and {@code -Dloadtest.warmup} (ISO-8601, e.g.
+ * {@code PT60S}) shape the run. The load generator shares the machine with the server, so raise the rate
+ * until the latency climbs to find where this machine saturates rather than reading the numbers as
+ * capacity.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.com.tennis=WARN")
+class RestApiLoadTest {
+
+    private static final double RATE = Double.parseDouble(System.getProperty("loadtest.rate", "2000"));
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 64);
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void playGamesAndReadStats() throws Exception {
+        HttpLoadGenerator generator = new HttpLoadGenerator(URI.create("http://localhost:" + port));
+
+        generator.run(CLIENTS, RATE, WARMUP);
+        HttpLoadGenerator.Report report = generator.run(CLIENTS, RATE, DURATION);
+
+        report.print(String.format("%d clients @ %.0f/s", CLIENTS, RATE), System.out);
+        assertEquals(0, report.errors());
+    }
+}
@@ -0,0 +1,238 @@
+package com.tennis.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.tennis.avro.EventMetadata;
+import com.tennis.avro.EventType;
+import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.config.AvroSerdeSettings;
+import com.tennis.infrastructure.config.GameStoreRocksDBConfig;
+import com.tennis.infrastructure.messaging.GameEventStreamsProcessor;
+import com.tennis.infrastructure.messaging.GameSummaryCodec;
+import io.confluent.kafka.schemaregistry.testutil.MockSchemaRegistry;
+import io.confluent.kafka.streams.serdes.avro.SpecificAvroSerde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.Topology;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pipes game events through the filter-chain topology that {@link GameEventStreamsProcessor} used to
+ * build and through its current branched topology, and reports the throughput of each.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}; {@code -Dbenchmark.games=N} changes the number of measured
+ * games (7 events each). The test driver runs the topology on the calling thread and commits after every
+ * record, so this measures the per-record cost of the topology; the record cache and commit interval
+ * only pay off on a real cluster. The processor logs at INFO, as configured for production.
+ */
+@Tag("benchmark")
+class StreamsTopologyBenchmark {
+
+    private static final String REGISTRY_SCOPE = "streams-benchmark";
+    private static final String SCHEMA_REGISTRY_URL = "mock://" + REGISTRY_SCOPE;
+    private static final int GAMES = Integer.getInteger("benchmark.games", 20_000);
+    private static final int WARMUP_GAMES = Integer.getInteger("benchmark.warmup-games", 2_000);
+    private static final String BALLS = "ABABAA";
+
+    private static final Logger logger = LoggerFactory.getLogger(GameEventStreamsProcessor.class);
+
+    enum Variant {
+        FILTER_CHAINS, BRANCHED
+    }
+
+    private static Level rootLevel;
+    private static Level processorLevel;
+
+    @BeforeAll
+    static void quietLogging() {
+        ch.qos.logback.classic.Logger root = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
+        ch.qos.logback.classic.Logger processor = (ch.qos.logback.classic.Logger) logger;
+        rootLevel = root.getLevel();
+        processorLevel = processor.getLevel();
+        root.setLevel(Level.WARN);
+        processor.setLevel(Level.INFO);
+    }
+
+    @AfterAll
+    static void restoreLogging() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(rootLevel);
+        ((ch.qos.logback.classic.Logger) logger).setLevel(processorLevel);
+        MockSchemaRegistry.dropScope(REGISTRY_SCOPE);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Variant.class)
+    void processGameEvents(Variant variant) {
+        SpecificAvroSerde<GameEvent> gameEventSerde = gameEventSerde();
+        try (TopologyTestDriver driver = new TopologyTestDriver(topology(variant, gameEventSerde), streamsProperties())) {
+            TestInputTopic<String, GameEvent> input = driver.createInputTopic(
+                    GameEventStreamsProcessor.GAME_EVENTS_TOPIC, Serdes.String().serializer(), gameEventSerde.serializer());
+            TestOutputTopic<String, GameEvent> live = driver.createOutputTopic(
+                    GameEventStreamsProcessor.LIVE_SCORES_TOPIC, Serdes.String().deserializer(), gameEventSerde.deserializer());
+            TestOutputTopic<String, GameEvent> finished = driver.createOutputTopic(
+                    GameEventStreamsProcessor.FINISHED_GAMES_TOPIC, Serdes.String().deserializer(), gameEventSerde.deserializer());
+
+            pipe(input, gameEvents("warmup-", WARMUP_GAMES));
+            drain(live, finished);
+
+            List<GameEvent> events = gameEvents("game-", GAMES);
+            long start = System.nanoTime();
+            pipe(input, events);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("%-14s %10.0f events/s%n", variant, events.size() / seconds);
+
+            // Both topologies must produce the same output
+            assertEquals(events.size(), drain(live, finished));
+            KeyValueStore<String, Long> winsPerPlayer =
+                    driver.getKeyValueStore(GameEventStreamsProcessor.WINS_PER_PLAYER_STORE);
+            assertEquals(WARMUP_GAMES + GAMES, winsPerPlayer.get("A"));
+        }
+    }
+
+    private static void pipe(TestInputTopic<String, GameEvent> input, List<GameEvent> events) {
+        for (GameEvent event : events) {
+            input.pipeInput(event.getGameId(), event);
+        }
+    }
+
+    private static long drain(TestOutputTopic<String, GameEvent> live, TestOutputTopic<String, GameEvent> finished) {
+        long drained = live.getQueueSize() + finished.getQueueSize();
+        live.readRecordsToList();
+        finished.readRecordsToList();
+        return drained;
+    }
+
+    private static Topology topology(Variant variant, SpecificAvroSerde<GameEvent> gameEventSerde) {
+        StreamsBuilder streamsBuilder = new StreamsBuilder();
+        if (variant == Variant.BRANCHED) {
+            GameEventStreamsProcessor processor = new GameEventStreamsProcessor(
+                    AvroSerdeSettings.registry(SCHEMA_REGISTRY_URL));
+            processor.processGameEvents(streamsBuilder);
+        } else {
+            filterChains(streamsBuilder, gameEventSerde);
+        }
+        return streamsBuilder.build();
+    }
+
+    /** The topology before it was restructured: one filter per output and INFO logging per event. */
+    private static void filterChains(StreamsBuilder streamsBuilder, SpecificAvroSerde<GameEvent> gameEventSerde) {
+        KStream<String, GameEvent> gameEvents = streamsBuilder.stream(
+                GameEventStreamsProcessor.GAME_EVENTS_TOPIC, Consumed.with(Serdes.String(), gameEventSerde));
+
+        gameEvents.foreach((key, value) ->
+                logger.info("Processing event: gameId={}, type={}, player={}",
+                        value.getGameId(), value.getEventType(), value.getPlayer()));
+
+        KStream<String, GameEvent> pointEvents = gameEvents.flatMapValues(GameSummaryCodec::expand);
+
+        pointEvents
+                .filter((key, value) -> value.getIsFinished())
+                .to(GameEventStreamsProcessor.FINISHED_GAMES_TOPIC, Produced.with(Serdes.String(), gameEventSerde));
+
+        pointEvents
+                .filter((key, value) -> !value.getIsFinished())
+                .to(GameEventStreamsProcessor.LIVE_SCORES_TOPIC, Produced.with(Serdes.String(), gameEventSerde));
+
+        pointEvents
+                .filter((key, value) -> value.getEventType() == EventType.POINT_SCORED)
+                .groupByKey(Grouped.with(Serdes.String(), gameEventSerde))
+                .count(countStore(GameEventStreamsProcessor.POINTS_PER_GAME_STORE))
+                .toStream()
+                .foreach((gameId, pointCount) -> logger.info("Game {} has {} points scored", gameId, pointCount));
+
+        KStream<String, GameEvent> finishedGames = pointEvents
+                .filter((key, value) -> value.getEventType() == EventType.GAME_FINISHED && value.getWinner() != null);
+
+        finishedGames
+                .groupBy((gameId, value) -> value.getWinner(), Grouped.with(Serdes.String(), gameEventSerde))
+                .count(countStore(GameEventStreamsProcessor.WINS_PER_PLAYER_STORE));
+
+        finishedGames
+                .mapValues(GameEvent::getWinner)
+                .toTable(Materialized.<String, String, KeyValueStore<Bytes, byte[]>>as(
+                                GameEventStreamsProcessor.FINISHED_GAMES_STORE)
+                        .withKeySerde(Serdes.String())
+                        .withValueSerde(Serdes.String()));
+    }
+
+    private static Materialized<String, Long, KeyValueStore<Bytes, byte[]>> countStore(String name) {
+        return Materialized.<String, Long, KeyValueStore<Bytes, byte[]>>as(name)
+                .withKeySerde(Serdes.String())
+                .withValueSerde(Serdes.Long());
+    }
+
+    private static Properties streamsProperties() {
+        Properties props = new Properties();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, "tennis-streams-benchmark");
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        props.put(StreamsConfig.STATESTORE_CACHE_MAX_BYTES_CONFIG, 10L * 1024 * 1024);
+        props.put(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG, GameStoreRocksDBConfig.class);
+        return props;
+    }
+
+    private static SpecificAvroSerde<GameEvent> gameEventSerde() {
+        SpecificAvroSerde<GameEvent> serde = new SpecificAvroSerde<>();
+        serde.configure(Collections.singletonMap("schema.registry.url", SCHEMA_REGISTRY_URL), false);
+        return serde;
+    }
+
+    /** Per game, the 6 point events and the finished event, as the Kafka publisher builds them. */
+    private static List<GameEvent> gameEvents(String prefix, int games) {
+        EventMetadata metadata = EventMetadata.newBuilder()
+                .setVersion("1.0.0")
+                .setSource("tennis-scoring-system")
+                .build();
+        List<GameEvent> gameEvents = new ArrayList<>();
+        for (int game = 0; game < games; game++) {
+            GameState gameState = GameState.initial(prefix + game);
+            for (char ball : BALLS.toCharArray()) {
+                Player player = ball == 'A' ? Player.A : Player.B;
+                gameState = gameState.addPoint(player);
+                gameEvents.add(event(gameState, EventType.POINT_SCORED, player.name(), metadata));
+            }
+            gameEvents.add(event(gameState, EventType.GAME_FINISHED, null, metadata));
+        }
+        return gameEvents;
+    }
+
+    private static GameEvent event(GameState gameState, EventType eventType, String player, EventMetadata metadata) {
+        return GameEvent.newBuilder()
+                .setGameId(gameState.gameId())
+                .setEventType(eventType)
+                .setPlayer(player)
+                .setPlayerAScore(gameState.score().playerAPoints())
+                .setPlayerBScore(gameState.score().playerBPoints())
+                .setDisplayScore(gameState.displayScore())
+                .setIsFinished(gameState.isFinished())
+                .setWinner(gameState.winner() != null ? gameState.winner().name() : null)
+                .setTimestamp(System.currentTimeMillis())
+                .setMetadata(metadata)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.tennis.benchmark;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.port.GameEventPublisher;
+import com.tennis.domain.port.GameRepository;
+import com.tennis.domain.service.TennisGameService;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TennisGameService#playGame} with ports that do nothing, so that only the scoring loop, the
+ * result messages and the metrics are measured. Run through {@link JmhBenchmarks}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TennisGameServiceBenchmark {
+
+    /** A love game, a game through one deuce and a long game through several. */
+    @Param({"AAAA", "ABABABAA", "ABABABABABABABBB"})
+    public String ballSequence;
+
+    private TennisGameService service;
+
+    @Setup
+    public void setUp() {
+        service = new TennisGameService(new NoOpGameRepository(), new NoOpGameEventPublisher(),
+                new GameMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public List<String> playGame() {
+        return service.playGame(ballSequence);
+    }
+
+    private static final class NoOpGameRepository implements GameRepository {
+        @Override
+        public void save(GameState gameState) {
+        }
+
+        @Override
+        public Optional<GameState> findById(String gameId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<GameState> findAll() {
+            return List.of();
+        }
+
+        @Override
+        public List<GameState> findFinishedGames() {
+            return List.of();
+        }
+
+        @Override
+        public long countTotalGames() {
+            return 0;
+        }
+
+        @Override
+        public long countFinishedGames() {
+            return 0;
+        }
+
+        @Override
+        public long countGamesByWinner(String winner) {
+            return 0;
+        }
+
+        @Override
+        public boolean replace(GameState expected, GameState updated) {
+            return true;
+        }
+
+        @Override
+        public boolean saveIfAbsent(GameState gameState) {
+            return true;
+        }
+    }
+
+    private static final class NoOpGameEventPublisher implements GameEventPublisher {
+        @Override
+        public void publishPointScored(GameState gameState, Player player) {
+        }
+
+        @Override
+        public void publishGameFinished(GameState gameState) {
+        }
+
+        @Override
+        public void publishGameSummary(GameState gameState, List<Player> balls) {
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.tennis.benchmark;
+
+import com.tennis.TennisApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the {@link RestApiLoadTest} load against the application once on platform threads and once with
+ * {@code spring.threads.virtual.enabled}, each in a fresh context, and prints the two reports one after
+ * the other.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=ThreadModeComparisonTest}; it takes the same
+ * {@code loadtest.*} properties. The default of 400 clients is twice Tomcat's 200 request threads, so in
+ * platform mode requests queue for a thread while in virtual mode each gets its own. Add
+ * {@code -Dspring.profiles.active=kafka} with a broker running to include the blocking Kafka publisher.
+ */
+@Tag("benchmark")
+class ThreadModeComparisonTest {
+
+    private static final double RATE = Double.parseDouble(System.getProperty("loadtest.rate", "4000"));
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 400);
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        Map<String, HttpLoadGenerator.Report> reports = new LinkedHashMap<>();
+        for (boolean virtualThreads : new boolean[] {false, true}) {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TennisApplication.class)
+                    .run("--server.port=0",
+                            "--spring.threads.virtual.enabled=" + virtualThreads,
+                            "--logging.level.com.tennis=WARN")) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                HttpLoadGenerator generator = new HttpLoadGenerator(URI.create("http://localhost:" + port));
+
+                generator.run(CLIENTS, RATE, WARMUP);
+                reports.put(virtualThreads ? "virtual threads" : "platform threads",
+                        generator.run(CLIENTS, RATE, DURATION));
+            }
+        }
+
+        System.out.printf("%d clients @ %.0f/s%n", CLIENTS, RATE);
+        reports.forEach((label, report) -> report.print(label, System.out));
+        reports.values().forEach(report -> assertEquals(0, report.errors()));
+    }
+}
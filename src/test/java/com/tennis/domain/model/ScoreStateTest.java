@@ -0,0 +1,88 @@
+package com.tennis.domain.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreStateTest {
+
+    @Test
+    void shouldStartAtLoveAll() {
+        var state = ScoreState.initial();
+
+        assertEquals(new Score(0, 0), state.score());
+        assertFalse(state.isFinished());
+        assertNull(state.winner());
+        assertEquals("Player A : 0 / Player B : 0", state.displayScore());
+    }
+
+    @Test
+    void shouldMatchPointCountScoringForEverySequence() {
+        // Every ball sequence up to 12 points must render exactly like the point-count based Score
+        for (int length = 1; length <= 12; length++) {
+            for (int bits = 0; bits < (1 << length); bits++) {
+                var state = ScoreState.initial();
+                var score = new Score(0, 0);
+
+                for (int i = 0; i < length && !score.isGameWon(); i++) {
+                    Player player = (bits >> i & 1) == 0 ? Player.A : Player.B;
+                    state = state.next(player);
+                    score = score.addPoint(player);
+
+                    assertEquals(expectedDisplay(score), state.displayScore());
+                    assertEquals(score.isGameWon(), state.isFinished());
+                    assertEquals(score.isGameWon() ? score.getWinner() : null, state.winner());
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldNotGrowPointsDuringLongDeuceBattle() {
+        // Given - deuce followed by a long back and forth
+        var state = ScoreState.initial();
+        for (char ball : "ABABAB".toCharArray()) {
+            state = state.next(ball == 'A' ? Player.A : Player.B);
+        }
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            state = state.next(Player.A).next(Player.B);
+        }
+
+        // Then
+        assertSame(ScoreState.DEUCE, state);
+        assertEquals(new Score(3, 3), state.score());
+    }
+
+    @Test
+    void shouldFoldExtendedScoresOntoCanonicalStates() {
+        assertSame(ScoreState.DEUCE, ScoreState.of(new Score(7, 7)));
+        assertSame(ScoreState.ADVANTAGE_A, ScoreState.of(new Score(8, 7)));
+        assertSame(ScoreState.ADVANTAGE_B, ScoreState.of(new Score(6, 7)));
+        assertSame(ScoreState.WON_A_B3, ScoreState.of(new Score(9, 7)));
+        assertSame(ScoreState.WON_B_A1, ScoreState.of(new Score(1, 4)));
+    }
+
+    @Test
+    void shouldStayFinishedOnceWon() {
+        var state = ScoreState.WON_A_B2;
+
+        assertSame(state, state.next(Player.A));
+        assertSame(state, state.next(Player.B));
+    }
+
+    private static String expectedDisplay(Score score) {
+        if (score.isDeuce()) {
+            return "Player A : Deuce / Player B : Deuce";
+        }
+        if (score.hasAdvantage(Player.A)) {
+            return "Player A : Advantage / Player B : 40";
+        }
+        if (score.hasAdvantage(Player.B)) {
+            return "Player A : 40 / Player B : Advantage";
+        }
+        return String.format("Player A : %s / Player B : %s",
+                score.getDisplayScore(Player.A),
+                score.getDisplayScore(Player.B));
+    }
+}
@@ -1,7 +1,12 @@
 package com.tennis.domain.service;
 
+import com.tennis.domain.exception.GameAlreadyFinishedException;
+import com.tennis.domain.exception.GameNotFoundException;
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
 import com.tennis.domain.port.GameEventPublisher;
 import com.tennis.domain.port.GameRepository;
+import com.tennis.infrastructure.adapter.InMemoryGameRepository;
 import com.tennis.infrastructure.monitoring.GameMetrics;
 import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,11 +15,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,9 +49,12 @@ class TennisGameServiceTest {
 
     private TennisGameService tennisGameService;
 
+    private final Map<String, List<GameState>> published = new ConcurrentHashMap<>();
+
     @BeforeEach
     void setUp() {
-        when(gameMetrics.startGameProcessingTimer()).thenReturn(timerSample);
+        // Only whole-sequence games use the processing timer
+        lenient().when(gameMetrics.startGameProcessingTimer()).thenReturn(timerSample);
         tennisGameService = new TennisGameService(gameRepository, eventPublisher, gameMetrics);
     }
 
@@ -57,8 +75,9 @@ class TennisGameServiceTest {
 
         // Verify interactions
         verify(gameRepository, times(4)).save(any());
-        verify(eventPublisher, times(4)).publishPointScored(any(), any());
-        verify(eventPublisher, times(1)).publishGameFinished(any());
+        verify(eventPublisher).publishGameSummary(
+                argThat(GameState::isFinished), eq(List.of(Player.A, Player.A, Player.A, Player.A)));
+        verify(eventPublisher, never()).publishPointScored(any(), any());
         verify(gameMetrics, times(1)).incrementGamesPlayed();
         verify(gameMetrics, times(1)).incrementPlayerWins("A");
         verify(gameMetrics, times(4)).incrementPointsScored();
@@ -95,7 +114,7 @@ class TennisGameServiceTest {
         assertTrue(lastResult.contains("Deuce"));
 
         // Game should not be finished
-        verify(eventPublisher, never()).publishGameFinished(any());
+        verify(eventPublisher).publishGameSummary(argThat(gameState -> !gameState.isFinished()), any());
         verify(gameMetrics, never()).incrementGamesPlayed();
     }
 
@@ -124,4 +143,116 @@ class TennisGameServiceTest {
         assertEquals(4, results.size()); // Should stop after 4 points
         assertEquals("Player A wins the game", results.get(3));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldScorePointOnStoredGame() {
+        // Given
+        var current = GameState.initial("game-1").addPoint(Player.A);
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(current));
+        when(gameRepository.replace(eq(current), any())).thenReturn(true);
+
+        // When
+        GameState updated = tennisGameService.scorePoint("game-1", Player.A);
+
+        // Then
+        assertEquals("Player A : 30 / Player B : 0", updated.displayScore());
+        verify(eventPublisher).publishPointScored(updated, Player.A);
+        verify(gameMetrics).incrementPointsScored();
+        verify(gameRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRetryPointOnNewerStateWhenReplaceLosesRace() {
+        // Given - another point for B lands between the read and the replace
+        var stale = GameState.initial("game-1");
+        var newer = stale.addPoint(Player.B);
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(stale), Optional.of(newer));
+        when(gameRepository.replace(eq(stale), any())).thenReturn(false);
+        when(gameRepository.replace(eq(newer), any())).thenReturn(true);
+
+        // When
+        GameState updated = tennisGameService.scorePoint("game-1", Player.A);
+
+        // Then
+        assertEquals("Player A : 15 / Player B : 15", updated.displayScore());
+        verify(gameMetrics).incrementPointConflicts();
+        verify(eventPublisher, times(1)).publishPointScored(any(), any());
+    }
+
+    @Test
+    void shouldPublishGameFinishedOnWinningPoint() {
+        // Given
+        var current = GameState.initial("game-1").addPoint(Player.B).addPoint(Player.B).addPoint(Player.B);
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(current));
+        when(gameRepository.replace(eq(current), any())).thenReturn(true);
+
+        // When
+        GameState updated = tennisGameService.scorePoint("game-1", Player.B);
+
+        // Then
+        assertEquals(Player.B, updated.winner());
+        assertEquals("Player B wins the game", TennisGameService.resultMessage(updated));
+        verify(eventPublisher).publishGameFinished(updated);
+        verify(gameMetrics).incrementPlayerWins("B");
+    }
+
+    @Test
+    void shouldPublishConcurrentPointsOnSameGameInStateOrder() throws InterruptedException {
+        // Given - a real repository, and a publisher that records every published state per game
+        var service = new TennisGameService(new InMemoryGameRepository(gameMetrics), new RecordingPublisher(), gameMetrics);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<String> gameIds = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            gameIds.add(service.startGame().gameId());
+        }
+
+        // When - three points for each player land on every game from two tasks, reaching deuce
+        for (String gameId : gameIds) {
+            for (Player player : Player.values()) {
+                executor.submit(() -> {
+                    for (int point = 0; point < 3; point++) {
+                        service.scorePoint(gameId, player);
+                    }
+                });
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Then - each game's events carry one more point than the previous one
+        for (String gameId : gameIds) {
+            List<Integer> pointsPlayed = published.get(gameId).stream()
+                    .map(gameState -> gameState.score().playerAPoints() + gameState.score().playerBPoints())
+                    .toList();
+            assertEquals(List.of(1, 2, 3, 4, 5, 6), pointsPlayed, gameId);
+        }
+    }
+
+    @Test
+    void shouldRejectPointForUnknownOrFinishedGame() {
+        // Given
+        var finished = GameState.initial("game-2")
+                .addPoint(Player.A).addPoint(Player.A).addPoint(Player.A).addPoint(Player.A);
+        when(gameRepository.findById("game-1")).thenReturn(Optional.empty());
+        when(gameRepository.findById("game-2")).thenReturn(Optional.of(finished));
+
+        // When & Then
+        assertThrows(GameNotFoundException.class, () -> tennisGameService.scorePoint("game-1", Player.A));
+        assertThrows(GameAlreadyFinishedException.class, () -> tennisGameService.scorePoint("game-2", Player.A));
+        verify(gameRepository, never()).replace(any(), any());
+    }
+
+    private class RecordingPublisher implements GameEventPublisher {
+
+        @Override
+        public void publishPointScored(GameState gameState, Player player) {
+            // Widens the window between the repository update and the publish
+            Thread.yield();
+            published.computeIfAbsent(gameState.gameId(), gameId -> new CopyOnWriteArrayList<>()).add(gameState);
+        }
+
+        @Override
+        public void publishGameFinished(GameState gameState) {
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.port.GameEventPublisher;
+import com.tennis.infrastructure.adapter.AsyncGameEventPublisher.OverflowPolicy;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncGameEventPublisherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GameMetrics gameMetrics;
+    private RecordingPublisher delegate;
+    private AsyncGameEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gameMetrics = new GameMetrics(meterRegistry);
+        delegate = new RecordingPublisher();
+    }
+
+    @AfterEach
+    void tearDown() {
+        delegate.release.countDown();
+        publisher.close();
+    }
+
+    @Test
+    void shouldDeliverEventsOfEachGameInOrder() {
+        // Given
+        delegate.release.countDown();
+        publisher = new AsyncGameEventPublisher(delegate, gameMetrics, 4, 64, 16, OverflowPolicy.BLOCK);
+
+        // When
+        for (int game = 0; game < 20; game++) {
+            var gameState = GameState.initial("game-" + game);
+            for (int point = 0; point < 4; point++) {
+                gameState = gameState.addPoint(Player.A);
+                publisher.publishPointScored(gameState, Player.A);
+            }
+            publisher.publishGameFinished(gameState);
+        }
+        publisher.close();
+
+        // Then
+        assertEquals(100, delegate.events.size());
+        for (int game = 0; game < 20; game++) {
+            String prefix = "game-" + game + ":";
+            List<String> events = delegate.events.stream().filter(event -> event.startsWith(prefix)).toList();
+            assertEquals(List.of(prefix + "point 15-0", prefix + "point 30-0", prefix + "point 40-0",
+                    prefix + "point won", prefix + "finished"), events);
+        }
+        assertEquals(100, meterRegistry.get("tennis.events.publish.lag").timer().count());
+    }
+
+    @Test
+    void shouldQueueGameSummaryAsSingleEvent() {
+        // Given
+        delegate.release.countDown();
+        publisher = new AsyncGameEventPublisher(delegate, gameMetrics, 1, 4, 1, OverflowPolicy.BLOCK);
+        var finalState = GameState.initial("game-1")
+                .addPoint(Player.A).addPoint(Player.B).addPoint(Player.A).addPoint(Player.A).addPoint(Player.A);
+
+        // When
+        publisher.publishGameSummary(finalState, List.of(Player.A, Player.B, Player.A, Player.A, Player.A));
+        publisher.close();
+
+        // Then - the delegate has no compact form and replays the game point by point
+        assertEquals(List.of("game-1:point 15-0", "game-1:point 15-15", "game-1:point 30-15",
+                "game-1:point 40-15", "game-1:point won", "game-1:finished"), delegate.events);
+        assertEquals(1, meterRegistry.get("tennis.events.publish.lag").timer().count());
+    }
+
+    @Test
+    void shouldDropOldestEventsWhenRingIsFull() throws InterruptedException {
+        // Given - the drain thread is stuck delivering the first event
+        publisher = new AsyncGameEventPublisher(delegate, gameMetrics, 1, 4, 1, OverflowPolicy.DROP_OLDEST);
+        publisher.publishPointScored(GameState.initial("game-0"), Player.A);
+        assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+
+        // When
+        for (int i = 1; i <= 6; i++) {
+            publisher.publishPointScored(GameState.initial("game-" + i), Player.A);
+        }
+
+        // Then
+        assertEquals(4, publisher.occupancy());
+        assertEquals(4.0, meterRegistry.get("tennis.events.buffer.occupancy").gauge().value());
+        assertEquals(2.0, meterRegistry.get("tennis.events.dropped").tag("reason", "overflow").counter().count());
+        delegate.release.countDown();
+        publisher.close();
+        assertEquals(List.of("game-0", "game-3", "game-4", "game-5", "game-6"),
+                delegate.events.stream().map(event -> event.substring(0, event.indexOf(':'))).toList());
+    }
+
+    @Test
+    void shouldSpillBeyondCapacityWithoutLosingOrder() throws InterruptedException {
+        // Given
+        publisher = new AsyncGameEventPublisher(delegate, gameMetrics, 1, 2, 1, OverflowPolicy.SPILL, 4);
+        publisher.publishPointScored(GameState.initial("game-0"), Player.A);
+        assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+
+        // When
+        for (int i = 1; i <= 6; i++) {
+            publisher.publishPointScored(GameState.initial("game-" + i), Player.A);
+        }
+        delegate.release.countDown();
+        publisher.close();
+
+        // Then
+        assertEquals(4.0, meterRegistry.get("tennis.events.spilled").counter().count());
+        assertEquals(List.of("game-0", "game-1", "game-2", "game-3", "game-4", "game-5", "game-6"),
+                delegate.events.stream().map(event -> event.substring(0, event.indexOf(':'))).toList());
+    }
+
+    @Test
+    void shouldBlockCallerOnceSpillCapacityIsReached() throws InterruptedException {
+        // Given - the ring and the overflow queue are both full
+        publisher = new AsyncGameEventPublisher(delegate, gameMetrics, 1, 2, 1, OverflowPolicy.SPILL, 2);
+        publisher.publishPointScored(GameState.initial("game-0"), Player.A);
+        assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 4; i++) {
+            publisher.publishPointScored(GameState.initial("game-" + i), Player.A);
+        }
+
+        // When
+        Thread caller = new Thread(() -> publisher.publishPointScored(GameState.initial("game-5"), Player.A));
+        caller.start();
+        caller.join(200);
+
+        // Then
+        assertTrue(caller.isAlive());
+        assertEquals(2.0, meterRegistry.get("tennis.events.spilled").counter().count());
+        delegate.release.countDown();
+        caller.join(5_000);
+        assertFalse(caller.isAlive());
+        publisher.close();
+        assertEquals(List.of("game-0", "game-1", "game-2", "game-3", "game-4", "game-5"),
+                delegate.events.stream().map(event -> event.substring(0, event.indexOf(':'))).toList());
+    }
+
+    @Test
+    void shouldBlockCallerUntilSpaceIsAvailable() throws InterruptedException {
+        // Given
+        publisher = new AsyncGameEventPublisher(delegate, gameMetrics, 1, 1, 1, OverflowPolicy.BLOCK);
+        publisher.publishPointScored(GameState.initial("game-0"), Player.A);
+        assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+        publisher.publishPointScored(GameState.initial("game-1"), Player.A);
+
+        // When
+        Thread caller = new Thread(() -> publisher.publishPointScored(GameState.initial("game-2"), Player.A));
+        caller.start();
+        caller.join(200);
+
+        // Then
+        assertTrue(caller.isAlive());
+        delegate.release.countDown();
+        caller.join(5_000);
+        assertFalse(caller.isAlive());
+        publisher.close();
+        assertEquals(3, delegate.events.size());
+    }
+
+    @Test
+    void shouldNotLetEventsPublishedAfterCloseOvertakeQueuedOnes() throws InterruptedException {
+        // Given - the drain thread is stuck on game-0 with game-1 still queued when close starts
+        publisher = new AsyncGameEventPublisher(delegate, gameMetrics, 1, 4, 1, OverflowPolicy.BLOCK);
+        publisher.publishPointScored(GameState.initial("game-0"), Player.A);
+        assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+        publisher.publishPointScored(GameState.initial("game-1"), Player.A);
+        Thread closer = new Thread(publisher::close);
+        closer.start();
+        closer.join(200);
+
+        // When
+        Thread caller = new Thread(() -> publisher.publishPointScored(GameState.initial("game-2"), Player.A));
+        caller.start();
+        caller.join(200);
+
+        // Then - the late event waits for the queue instead of going ahead of it
+        assertEquals(List.of("game-0"), delegate.received.stream()
+                .map(event -> event.substring(0, event.indexOf(':'))).toList());
+        delegate.release.countDown();
+        caller.join(5_000);
+        closer.join(5_000);
+        assertEquals(List.of("game-0", "game-1", "game-2"),
+                delegate.events.stream().map(event -> event.substring(0, event.indexOf(':'))).toList());
+    }
+
+    private static final class RecordingPublisher implements GameEventPublisher {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final List<String> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void publishPointScored(GameState gameState, Player player) {
+            record(gameState.gameId() + ":point " + (gameState.isFinished() ? "won" : shortScore(gameState)));
+        }
+
+        @Override
+        public void publishGameFinished(GameState gameState) {
+            record(gameState.gameId() + ":finished");
+        }
+
+        private void record(String event) {
+            received.add(event);
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+        }
+
+        private static String shortScore(GameState gameState) {
+            return gameState.displayScore().replaceAll("Player [AB] : ", "").replace(" / ", "-");
+        }
+    }
+}
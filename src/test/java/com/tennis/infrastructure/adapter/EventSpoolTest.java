@@ -0,0 +1,110 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.avro.EventMetadata;
+import com.tennis.avro.EventType;
+import com.tennis.avro.GameEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSpoolTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReturnEventsInAppendOrderUntilCommitted() throws Exception {
+        try (EventSpool spool = new EventSpool(directory, false)) {
+            // Given
+            for (int i = 0; i < 5; i++) {
+                spool.append(event("game-" + i));
+            }
+
+            // When
+            List<EventSpool.Entry> first = spool.peek(3);
+            spool.commit(first.get(1).nextPosition());
+
+            // Then
+            assertEquals(List.of("game-0", "game-1", "game-2"), gameIds(first));
+            assertEquals(List.of("game-2", "game-3", "game-4"), gameIds(spool.peek(10)));
+            assertEquals(3, spool.pending());
+            assertFalse(spool.isEmpty());
+        }
+    }
+
+    @Test
+    void shouldResumeAfterLastCommitOnRestart() throws Exception {
+        // Given
+        try (EventSpool spool = new EventSpool(directory, true)) {
+            for (int i = 0; i < 4; i++) {
+                spool.append(event("game-" + i));
+            }
+            spool.commit(spool.peek(1).get(0).nextPosition());
+        }
+
+        // When
+        try (EventSpool spool = new EventSpool(directory, true)) {
+            // Then
+            assertEquals(3, spool.pending());
+            assertEquals(List.of("game-1", "game-2", "game-3"), gameIds(spool.peek(10)));
+        }
+    }
+
+    @Test
+    void shouldResetFilesOnceDrained() throws Exception {
+        try (EventSpool spool = new EventSpool(directory, false)) {
+            // Given
+            spool.append(event("game-1"));
+            spool.append(event("game-2"));
+
+            // When
+            spool.commit(spool.peek(2).get(1).nextPosition());
+            spool.append(event("game-3"));
+
+            // Then
+            assertEquals(List.of("game-3"), gameIds(spool.peek(10)));
+            assertEquals(spool.peek(1).get(0).nextPosition(), Files.size(directory.resolve("events.spool")));
+        }
+    }
+
+    @Test
+    void shouldDropTornTailOnRestart() throws Exception {
+        // Given
+        try (EventSpool spool = new EventSpool(directory, false)) {
+            spool.append(event("game-1"));
+        }
+        Files.write(directory.resolve("events.spool"), new byte[]{0, 0, 0, 42, 1, 2}, StandardOpenOption.APPEND);
+
+        // When
+        try (EventSpool spool = new EventSpool(directory, false)) {
+            spool.append(event("game-2"));
+
+            // Then
+            assertEquals(List.of("game-1", "game-2"), gameIds(spool.peek(10)));
+        }
+    }
+
+    private static List<String> gameIds(List<EventSpool.Entry> entries) {
+        return entries.stream().map(entry -> entry.event().getGameId()).toList();
+    }
+
+    private static GameEvent event(String gameId) {
+        return GameEvent.newBuilder()
+                .setGameId(gameId)
+                .setEventType(EventType.POINT_SCORED)
+                .setPlayer("A")
+                .setPlayerAScore(1)
+                .setPlayerBScore(0)
+                .setDisplayScore("Player A : 15 / Player B : 0")
+                .setIsFinished(false)
+                .setTimestamp(42L)
+                .setMetadata(EventMetadata.newBuilder().build())
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GameMetrics gameMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gameMetrics = new GameMetrics(meterRegistry);
+    }
+
+    @Test
+    void shouldReplayLatestStatePerGameAfterRestart() throws Exception {
+        // Given
+        try (GameJournal journal = openJournal()) {
+            journal.recover(gameState -> fail("journal should start empty"));
+            var gameState = GameState.initial("game-1");
+            for (char ball : "AABAA".toCharArray()) {
+                gameState = gameState.addPoint(ball == 'A' ? Player.A : Player.B);
+                journal.append(gameState).join();
+            }
+            journal.append(playGame("game-2", "AB")).join();
+        }
+
+        // When
+        Map<String, GameState> recovered = recover();
+
+        // Then
+        assertEquals(2, recovered.size());
+        assertTrue(recovered.get("game-1").isFinished());
+        assertEquals(Player.A, recovered.get("game-1").winner());
+        assertEquals("Player A : 15 / Player B : 15", recovered.get("game-2").displayScore());
+    }
+
+    @Test
+    void shouldGroupConcurrentAppendsIntoCommits() throws Exception {
+        // Given
+        try (GameJournal journal = openJournal()) {
+            journal.recover(gameState -> { });
+
+            // When
+            CompletableFuture<?>[] commits = new CompletableFuture[1_000];
+            for (int i = 0; i < commits.length; i++) {
+                commits[i] = journal.append(playGame("game-" + i, "AB"));
+            }
+            CompletableFuture.allOf(commits).join();
+        }
+
+        // Then
+        assertEquals(1_000.0, meterRegistry.get("tennis.journal.records.written").counter().count());
+        assertTrue(meterRegistry.get("tennis.journal.commit.time").timer().count() <= 1_000);
+        assertEquals(1_000, recover().size());
+    }
+
+    @Test
+    void shouldRecoverFromSnapshotAndLaterSegments() throws Exception {
+        // Given
+        try (GameJournal journal = openJournal()) {
+            journal.recover(gameState -> { });
+            journal.append(playGame("game-1", "A")).join();
+            journal.snapshot(() -> List.of(playGame("game-1", "A")));
+            journal.append(playGame("game-2", "BBBB")).join();
+        }
+
+        // When
+        Map<String, GameState> recovered = recover();
+
+        // Then - the segment before the snapshot has been deleted
+        assertEquals(2, recovered.size());
+        assertEquals(Player.B, recovered.get("game-2").winner());
+        assertFalse(Files.exists(directory.resolve("journal-00000000000000000000.log")));
+    }
+
+    @Test
+    void shouldTruncateTornRecordAtEndOfLastSegment() throws Exception {
+        // Given
+        try (GameJournal journal = openJournal()) {
+            journal.recover(gameState -> { });
+            journal.append(playGame("game-1", "AAAA")).join();
+        }
+        Path segment = directory.resolve("journal-00000000000000000000.log");
+        long intactSize = Files.size(segment);
+        Files.write(segment, new byte[]{0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // When
+        Map<String, GameState> recovered = recover();
+
+        // Then
+        assertEquals(1, recovered.size());
+        assertEquals(intactSize, Files.size(segment));
+        assertEquals(1.0, meterRegistry.get("tennis.journal.recovered.records").counter().count());
+    }
+
+    @Test
+    void shouldFailQueuedAppendsWhenClosed() throws Exception {
+        // Given - recover() never ran, so no writer takes the append
+        GameJournal journal = openJournal();
+        CompletableFuture<Void> append = journal.append(playGame("game-1", "AAAA"));
+
+        // When
+        journal.close();
+
+        // Then
+        CompletionException failure = assertThrows(CompletionException.class, append::join);
+        assertEquals("Journal is closed", failure.getCause().getMessage());
+    }
+
+    private GameJournal openJournal() {
+        return new GameJournal(directory, 1 << 20, false, gameMetrics);
+    }
+
+    private Map<String, GameState> recover() throws Exception {
+        Map<String, GameState> states = new HashMap<>();
+        try (GameJournal journal = openJournal()) {
+            journal.recover(gameState -> states.put(gameState.gameId(), gameState));
+        }
+        return states;
+    }
+
+    private static GameState playGame(String gameId, String sequence) {
+        var gameState = GameState.initial(gameId);
+        for (char ball : sequence.toCharArray()) {
+            gameState = gameState.addPoint(ball == 'A' ? Player.A : Player.B);
+        }
+        return gameState;
+    }
+}
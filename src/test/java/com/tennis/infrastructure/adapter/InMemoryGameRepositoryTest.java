@@ -0,0 +1,323 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryGameRepositoryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GameMetrics gameMetrics;
+    private InMemoryGameRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gameMetrics = new GameMetrics(meterRegistry);
+        repository = new InMemoryGameRepository(gameMetrics);
+    }
+
+    @Test
+    void shouldCountEachGameOnceAcrossUpdates() {
+        // Given
+        var gameState = GameState.initial("game-1");
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            gameState = gameState.addPoint(Player.A);
+            repository.save(gameState);
+        }
+
+        // Then
+        assertEquals(1, repository.countTotalGames());
+        assertEquals(0, repository.countFinishedGames());
+        assertTrue(repository.findFinishedGames().isEmpty());
+    }
+
+    @Test
+    void shouldIndexFinishedGamesByWinner() {
+        // When
+        repository.save(playGame("game-1", "AAAA"));
+        repository.save(playGame("game-2", "BBBB"));
+        repository.save(playGame("game-3", "ABABAA"));
+        repository.save(playGame("game-4", "AB"));
+
+        // Then
+        assertEquals(4, repository.countTotalGames());
+        assertEquals(3, repository.countFinishedGames());
+        assertEquals(2, repository.countGamesByWinner("A"));
+        assertEquals(1, repository.countGamesByWinner("B"));
+        assertEquals(0, repository.countGamesByWinner("C"));
+        assertEquals(3, repository.findFinishedGames().size());
+    }
+
+    @Test
+    void shouldNotDoubleCountFinishedGameSavedTwice() {
+        // Given
+        var finished = playGame("game-1", "AAAA");
+
+        // When
+        repository.save(finished);
+        repository.save(finished);
+
+        // Then
+        assertEquals(1, repository.countFinishedGames());
+        assertEquals(1, repository.countGamesByWinner("A"));
+    }
+
+    @Test
+    void shouldKeepCountsConsistentUnderConcurrentSaves() throws InterruptedException {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When - every game is saved point by point from a different task
+        for (int i = 0; i < 1_000; i++) {
+            String gameId = "game-" + i;
+            String sequence = i % 2 == 0 ? "AAAA" : "BBBAB";
+            executor.submit(() -> {
+                var gameState = GameState.initial(gameId);
+                for (char ball : sequence.toCharArray()) {
+                    gameState = gameState.addPoint(ball == 'A' ? Player.A : Player.B);
+                    repository.save(gameState);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(1_000, repository.countTotalGames());
+        assertEquals(1_000, repository.countFinishedGames());
+        assertEquals(500, repository.countGamesByWinner("A"));
+        assertEquals(500, repository.countGamesByWinner("B"));
+    }
+
+    @Test
+    void shouldReplaceOnlyWhenCurrentStateMatches() {
+        // Given
+        var initial = GameState.initial("game-1");
+        repository.save(initial);
+        var afterA = initial.addPoint(Player.A);
+
+        // When
+        boolean first = repository.replace(initial, afterA);
+        boolean stale = repository.replace(initial, initial.addPoint(Player.B));
+
+        // Then
+        assertTrue(first);
+        assertFalse(stale);
+        assertEquals(afterA, repository.findById("game-1").orElseThrow());
+        assertFalse(repository.replace(GameState.initial("unknown"), afterA));
+    }
+
+    @Test
+    void shouldApplyEveryConcurrentPointThroughReplace() throws InterruptedException {
+        // Given
+        for (int i = 0; i < 200; i++) {
+            repository.save(GameState.initial("game-" + i));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When - three points for A are submitted to every game from different tasks
+        for (int i = 0; i < 200; i++) {
+            String gameId = "game-" + i;
+            for (int point = 0; point < 3; point++) {
+                executor.submit(() -> {
+                    GameState current;
+                    do {
+                        current = repository.findById(gameId).orElseThrow();
+                    } while (!repository.replace(current, current.addPoint(Player.A)));
+                });
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Then
+        assertTrue(repository.findAll().stream()
+                .allMatch(gameState -> gameState.displayScore().equals("Player A : 40 / Player B : 0")));
+        assertEquals(0, repository.countFinishedGames());
+    }
+
+    @Test
+    void shouldEvictOldestFinishedGamesWhenMaxEntriesExceeded() {
+        // Given
+        List<GameState> archived = new ArrayList<>();
+        repository = new InMemoryGameRepository(
+                new EvictionPolicy(2, 0, Duration.ZERO), archived::add, gameMetrics);
+
+        // When
+        repository.save(playGame("game-1", "AAAA"));
+        repository.save(playGame("game-2", "AB"));
+        repository.save(playGame("game-3", "BBBB"));
+
+        // Then - the live game is kept even though it is older than game-3
+        assertEquals(2, repository.residentEntries());
+        assertTrue(repository.findById("game-1").isEmpty());
+        assertTrue(repository.findById("game-2").isPresent());
+        assertEquals(List.of("game-1"), archived.stream().map(GameState::gameId).toList());
+        assertEquals(3, repository.countTotalGames());
+        assertEquals(1.0, meterRegistry.get("tennis.repository.evictions").tag("reason", "size").counter().count());
+    }
+
+    @Test
+    void shouldEvictWhenEstimatedBytesExceeded() {
+        // Given - room for a single entry
+        long oneEntry = InMemoryGameRepository.ENTRY_OVERHEAD_BYTES + 2L * "game-1".length();
+        repository = new InMemoryGameRepository(
+                new EvictionPolicy(0, oneEntry, Duration.ZERO), null, gameMetrics);
+
+        // When
+        repository.save(playGame("game-1", "AAAA"));
+        repository.save(playGame("game-2", "BBBB"));
+
+        // Then
+        assertEquals(1, repository.residentEntries());
+        assertEquals(oneEntry, repository.residentBytes());
+        assertTrue(repository.findById("game-2").isPresent());
+    }
+
+    @Test
+    void shouldEvictFinishedGamesAfterTtl() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        repository = new InMemoryGameRepository(
+                new EvictionPolicy(0, 0, Duration.ofMinutes(5)), null, gameMetrics, now::get);
+        repository.save(playGame("game-1", "AAAA"));
+
+        // When
+        now.addAndGet(Duration.ofMinutes(6).toNanos());
+        repository.evictIfNeeded();
+
+        // Then
+        assertTrue(repository.findById("game-1").isEmpty());
+        assertTrue(repository.findFinishedGames().isEmpty());
+        assertEquals(1, repository.countFinishedGames());
+        repository.close();
+    }
+
+    @Test
+    void shouldNotCountEvictedGameAgainWhenSavedAgain() {
+        // Given - game-1 is evicted by game-2
+        repository = new InMemoryGameRepository(
+                new EvictionPolicy(1, 0, Duration.ZERO), null, gameMetrics);
+        repository.save(playGame("game-1", "AAAA"));
+        repository.save(playGame("game-2", "BBBB"));
+        assertTrue(repository.findById("game-1").isEmpty());
+
+        // When - game-1 is replayed
+        repository.save(playGame("game-1", "AAAA"));
+
+        // Then
+        assertEquals(2, repository.countTotalGames());
+        assertEquals(2, repository.countFinishedGames());
+        assertEquals(1, repository.countGamesByWinner("A"));
+        assertEquals(1, repository.countGamesByWinner("B"));
+    }
+
+    @Test
+    void shouldOnlySaveIfAbsent() {
+        // Given
+        var current = playGame("game-1", "AB");
+        repository.save(current);
+
+        // When
+        boolean overwritten = repository.saveIfAbsent(playGame("game-1", "A"));
+        boolean inserted = repository.saveIfAbsent(playGame("game-2", "AAAA"));
+
+        // Then
+        assertFalse(overwritten);
+        assertTrue(inserted);
+        assertEquals(current, repository.findById("game-1").orElseThrow());
+        assertEquals(2, repository.countTotalGames());
+        assertEquals(1, repository.countGamesByWinner("A"));
+    }
+
+    @Test
+    void shouldNotBringEvictedGameBackThroughSaveIfAbsent() {
+        // Given - game-1 is evicted by game-2
+        repository = new InMemoryGameRepository(
+                new EvictionPolicy(1, 0, Duration.ZERO), null, gameMetrics);
+        repository.save(playGame("game-1", "AAAA"));
+        repository.save(playGame("game-2", "BBBB"));
+
+        // When
+        boolean saved = repository.saveIfAbsent(playGame("game-1", "AAAA"));
+
+        // Then
+        assertFalse(saved);
+        assertTrue(repository.findById("game-1").isEmpty());
+        assertEquals(2, repository.countTotalGames());
+        assertEquals(1, repository.countGamesByWinner("A"));
+    }
+
+    @Test
+    void shouldKeepGameResidentAndRetryWhenArchiveFails() {
+        // Given - an archive that fails once
+        AtomicLong now = new AtomicLong();
+        List<GameState> archived = new ArrayList<>();
+        AtomicBoolean failNext = new AtomicBoolean(true);
+        repository = new InMemoryGameRepository(new EvictionPolicy(1, 0, Duration.ZERO), gameState -> {
+            if (failNext.getAndSet(false)) {
+                throw new UncheckedIOException(new IOException("disk full"));
+            }
+            archived.add(gameState);
+        }, gameMetrics, now::get);
+        repository.save(playGame("game-1", "AAAA"));
+
+        // When
+        assertDoesNotThrow(() -> repository.save(playGame("game-2", "BBBB")));
+
+        // Then - nothing is lost and the failure is counted
+        assertEquals(2, repository.residentEntries());
+        assertTrue(repository.findById("game-1").isPresent());
+        assertEquals(1.0, meterRegistry.get("tennis.repository.archive.failures").counter().count());
+
+        // When - the retry delay has passed
+        now.addAndGet(InMemoryGameRepository.ARCHIVE_RETRY_DELAY.toNanos());
+        repository.evictIfNeeded();
+
+        // Then
+        assertEquals(1, repository.residentEntries());
+        assertTrue(repository.findById("game-1").isEmpty());
+        assertEquals(List.of("game-1"), archived.stream().map(GameState::gameId).toList());
+    }
+
+    @Test
+    void shouldCountLookupHitsAndMisses() {
+        // Given
+        repository.save(playGame("game-1", "AB"));
+
+        // When
+        repository.findById("game-1");
+        repository.findById("unknown");
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("tennis.repository.lookups").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("tennis.repository.lookups").tag("result", "miss").counter().count());
+    }
+
+    private static GameState playGame(String gameId, String sequence) {
+        var gameState = GameState.initial(gameId);
+        for (char ball : sequence.toCharArray()) {
+            gameState = gameState.addPoint(ball == 'A' ? Player.A : Player.B);
+        }
+        return gameState;
+    }
+}
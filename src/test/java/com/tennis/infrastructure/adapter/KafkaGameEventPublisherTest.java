@@ -0,0 +1,166 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class KafkaGameEventPublisherTest {
+
+    private static final String TOPIC = "tennis-game-events";
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private KafkaTemplate<String, GameEvent> kafkaTemplate;
+    private EventSpool spool;
+    private PublishCircuitBreaker circuitBreaker;
+    private KafkaGameEventPublisher publisher;
+    private List<String> delivered;
+    private volatile boolean brokerUp;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        delivered = new CopyOnWriteArrayList<>();
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any(GameEvent.class))).thenAnswer(invocation -> {
+            GameEvent event = invocation.getArgument(2);
+            if (!brokerUp) {
+                return CompletableFuture.failedFuture(new TimeoutException("broker unavailable"));
+            }
+            delivered.add(event.getGameId() + ":" + event.getDisplayScore());
+            ProducerRecord<String, GameEvent> record = new ProducerRecord<>(TOPIC, event.getGameId(), event);
+            return CompletableFuture.completedFuture(
+                    new SendResult<>(record, new RecordMetadata(new TopicPartition(TOPIC, 0), 0, 0, 0, 0, 0)));
+        });
+
+        spool = new EventSpool(directory, false);
+        // Opens after two failures and lets a probe through right away
+        circuitBreaker = new PublishCircuitBreaker(2, Duration.ZERO);
+        // The drainer is driven by the tests
+        publisher = new KafkaGameEventPublisher(kafkaTemplate, spool, circuitBreaker,
+                new GameMetrics(meterRegistry), false, 1000, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        publisher.close();
+        spool.close();
+    }
+
+    @Test
+    void shouldSpoolWhileBrokerIsDownAndDrainInOrderOnceItRecovers() {
+        // Given - the broker is down
+        GameState gameState = GameState.initial("game-1");
+        for (Player player : List.of(Player.A, Player.A, Player.B, Player.A, Player.A)) {
+            gameState = gameState.addPoint(player);
+            publisher.publishPointScored(gameState, player);
+        }
+        publisher.publishGameFinished(gameState);
+
+        // Then - the first send failed and the events after it queued behind it
+        verify(kafkaTemplate, times(1)).send(eq(TOPIC), anyString(), any(GameEvent.class));
+        assertEquals(6, spool.pending());
+        assertEquals(6.0, meterRegistry.get("tennis.events.spooled").counter().count());
+
+        // When - draining fails too
+        publisher.drainSpool();
+
+        // Then - the second failure opens the breaker and nothing is lost
+        assertEquals(PublishCircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertEquals(6, spool.pending());
+
+        // When - the broker is back
+        brokerUp = true;
+        publisher.drainSpool();
+
+        // Then
+        assertTrue(spool.isEmpty());
+        assertEquals(PublishCircuitBreaker.State.CLOSED, circuitBreaker.state());
+        assertEquals(List.of(
+                "game-1:Player A : 15 / Player B : 0",
+                "game-1:Player A : 30 / Player B : 0",
+                "game-1:Player A : 30 / Player B : 15",
+                "game-1:Player A : 40 / Player B : 15",
+                "game-1:Player A wins the game",
+                "game-1:Player A wins the game"), delivered);
+        assertEquals(6.0, meterRegistry.get("tennis.events.spool.drained").counter().count());
+    }
+
+    @Test
+    void shouldQueueNewEventsBehindSpooledOnes() {
+        // Given - one event is spooled while the broker is down
+        GameState first = GameState.initial("game-1").addPoint(Player.A);
+        publisher.publishPointScored(first, Player.A);
+        brokerUp = true;
+
+        // When
+        GameState second = first.addPoint(Player.B);
+        publisher.publishPointScored(second, Player.B);
+
+        // Then - the second event waits for the first
+        assertTrue(delivered.isEmpty());
+        publisher.drainSpool();
+        assertEquals(List.of("game-1:Player A : 15 / Player B : 0", "game-1:Player A : 15 / Player B : 15"),
+                delivered);
+    }
+
+    @Test
+    void shouldSendDirectlyWhileBrokerIsUp() {
+        // Given
+        brokerUp = true;
+
+        // When
+        publisher.publishPointScored(GameState.initial("game-1").addPoint(Player.B), Player.B);
+
+        // Then
+        assertEquals(List.of("game-1:Player A : 0 / Player B : 15"), delivered);
+        assertTrue(spool.isEmpty());
+    }
+
+    @Test
+    void shouldCountEventAsDroppedWhenSpoolFailsInSendCallback() {
+        // Given - the send fails asynchronously and the spool cannot be written
+        EventSpool brokenSpool = mock(EventSpool.class);
+        when(brokenSpool.isEmpty()).thenReturn(true);
+        doThrow(new UncheckedIOException(new IOException("disk full"))).when(brokenSpool).append(any());
+        KafkaGameEventPublisher brokenPublisher = new KafkaGameEventPublisher(kafkaTemplate, brokenSpool,
+                circuitBreaker, new GameMetrics(meterRegistry), false, 1000, Duration.ofHours(1));
+
+        // When
+        assertDoesNotThrow(() -> brokenPublisher.publishPointScored(
+                GameState.initial("game-1").addPoint(Player.A), Player.A));
+        brokenPublisher.close();
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("tennis.events.dropped").tag("reason", "spool").counter().count());
+    }
+}
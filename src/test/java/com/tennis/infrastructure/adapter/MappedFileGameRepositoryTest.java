@@ -0,0 +1,181 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedFileGameRepositoryTest {
+
+    private static final int CAPACITY = 1 << 12;
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private MappedFileGameRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("games.db");
+        repository = new MappedFileGameRepository(file, CAPACITY);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        repository.close();
+    }
+
+    @Test
+    void shouldSaveAndFindGameState() {
+        // Given
+        var gameState = playGame(UUID.randomUUID().toString(), "ABABA");
+
+        // When
+        repository.save(gameState);
+
+        // Then
+        assertEquals(gameState, repository.findById(gameState.gameId()).orElseThrow());
+        assertTrue(repository.findById(UUID.randomUUID().toString()).isEmpty());
+        assertTrue(repository.findById("not-a-uuid").isEmpty());
+    }
+
+    @Test
+    void shouldReplaceOnlyWhenCurrentStateMatches() {
+        // Given
+        var initial = GameState.initial(UUID.randomUUID().toString());
+        repository.save(initial);
+        var won = initial.addPoint(Player.B).addPoint(Player.B).addPoint(Player.B);
+        repository.save(won);
+
+        // When
+        boolean stale = repository.replace(initial, initial.addPoint(Player.A));
+        boolean current = repository.replace(won, won.addPoint(Player.B));
+
+        // Then
+        assertFalse(stale);
+        assertTrue(current);
+        assertEquals(1, repository.countGamesByWinner("B"));
+        assertFalse(repository.replace(GameState.initial(UUID.randomUUID().toString()), initial));
+    }
+
+    @Test
+    void shouldOnlySaveIfAbsent() {
+        // Given
+        var current = playGame(UUID.randomUUID().toString(), "AAAA");
+        repository.save(current);
+        var other = playGame(UUID.randomUUID().toString(), "BB");
+
+        // When
+        boolean overwritten = repository.saveIfAbsent(playGame(current.gameId(), "A"));
+        boolean inserted = repository.saveIfAbsent(other);
+
+        // Then
+        assertFalse(overwritten);
+        assertTrue(inserted);
+        assertEquals(current, repository.findById(current.gameId()).orElseThrow());
+        assertEquals(other, repository.findById(other.gameId()).orElseThrow());
+        assertEquals(2, repository.countTotalGames());
+        assertEquals(1, repository.countFinishedGames());
+    }
+
+    @Test
+    void shouldMaintainCountsAcrossUpdates() {
+        // Given
+        String gameId = UUID.randomUUID().toString();
+        var gameState = GameState.initial(gameId);
+
+        // When
+        for (char ball : "AAAA".toCharArray()) {
+            gameState = gameState.addPoint(ball == 'A' ? Player.A : Player.B);
+            repository.save(gameState);
+        }
+        repository.save(playGame(UUID.randomUUID().toString(), "BBBB"));
+        repository.save(playGame(UUID.randomUUID().toString(), "AB"));
+
+        // Then
+        assertEquals(3, repository.countTotalGames());
+        assertEquals(2, repository.countFinishedGames());
+        assertEquals(1, repository.countGamesByWinner("A"));
+        assertEquals(1, repository.countGamesByWinner("B"));
+        assertEquals(2, repository.findFinishedGames().size());
+        assertEquals(3, repository.findAll().size());
+    }
+
+    @Test
+    void shouldSurviveReopen() throws IOException {
+        // Given
+        var finished = playGame(UUID.randomUUID().toString(), "ABABAA");
+        var live = playGame(UUID.randomUUID().toString(), "ABABABA");
+        repository.save(finished);
+        repository.save(live);
+        repository.close();
+
+        // When
+        repository = new MappedFileGameRepository(file, CAPACITY);
+
+        // Then
+        assertEquals(2, repository.countTotalGames());
+        assertEquals(1, repository.countGamesByWinner("A"));
+        assertEquals(finished, repository.findById(finished.gameId()).orElseThrow());
+        assertEquals("Player A : Advantage / Player B : 40",
+                repository.findById(live.gameId()).orElseThrow().displayScore());
+    }
+
+    @Test
+    void shouldRecomputeCountsFromSlotsOnReopen() throws IOException {
+        // Given - a crash left the segment counters behind the slots
+        repository.save(playGame(UUID.randomUUID().toString(), "AAAA"));
+        repository.save(playGame(UUID.randomUUID().toString(), "BBBB"));
+        repository.save(playGame(UUID.randomUUID().toString(), "AB"));
+        repository.close();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(MappedFileGameRepository.SEGMENTS
+                    * MappedFileGameRepository.SEGMENT_HEADER_BYTES), MappedFileGameRepository.FILE_HEADER_BYTES);
+        }
+
+        // When
+        repository = new MappedFileGameRepository(file, CAPACITY);
+
+        // Then
+        assertEquals(3, repository.countTotalGames());
+        assertEquals(2, repository.countFinishedGames());
+        assertEquals(1, repository.countGamesByWinner("A"));
+        assertEquals(1, repository.countGamesByWinner("B"));
+    }
+
+    @Test
+    void shouldRejectNonUuidGameIds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.save(GameState.initial("game-1")));
+    }
+
+    @Test
+    void shouldRejectFileWithDifferentCapacity() throws IOException {
+        // Given
+        repository.close();
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> new MappedFileGameRepository(file, CAPACITY * 4));
+        repository = new MappedFileGameRepository(file, CAPACITY);
+    }
+
+    private static GameState playGame(String gameId, String sequence) {
+        var gameState = GameState.initial(gameId);
+        for (char ball : sequence.toCharArray()) {
+            gameState = gameState.addPoint(ball == 'A' ? Player.A : Player.B);
+        }
+        return gameState;
+    }
+}
@@ -1,13 +1,18 @@
 package com.tennis.infrastructure.adapter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.application.dto.BatchGameRequest;
 import com.tennis.application.dto.GameRequest;
+import com.tennis.application.dto.PointRequest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -65,6 +70,68 @@ class TennisGameControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void shouldPlayBatchOfGames() throws Exception {
+        // Given
+        BatchGameRequest request = new BatchGameRequest(List.of("ABABAA", "XYZ", "BBBB"));
+
+        // When & Then
+        mockMvc.perform(post("/api/tennis/games/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].game.winner").value("Player A"))
+                .andExpect(jsonPath("$.results[1].error").value("Ball sequence must contain only 'A' and 'B' characters"))
+                .andExpect(jsonPath("$.results[2].game.winner").value("Player B"));
+    }
+
+    @Test
+    void shouldReturnBadRequestForEmptyBatch() throws Exception {
+        // Given
+        BatchGameRequest request = new BatchGameRequest(List.of());
+
+        // When & Then
+        mockMvc.perform(post("/api/tennis/games/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Failed"));
+    }
+
+    @Test
+    void shouldScoreLiveGamePointByPoint() throws Exception {
+        // Given
+        String created = mockMvc.perform(post("/api/tennis/games/live"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.score").value("Player A : 0 / Player B : 0"))
+                .andReturn().getResponse().getContentAsString();
+        String gameId = objectMapper.readTree(created).get("gameId").asText();
+
+        // When
+        for (String player : List.of("A", "A", "A")) {
+            scorePoint(gameId, player).andExpect(status().isOk());
+        }
+
+        // Then
+        scorePoint(gameId, "A")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.score").value("Player A wins the game"))
+                .andExpect(jsonPath("$.isFinished").value(true))
+                .andExpect(jsonPath("$.winner").value("Player A"));
+        scorePoint(gameId, "B").andExpect(status().isConflict());
+        mockMvc.perform(get("/api/tennis/games/" + gameId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.winner").value("Player A"));
+    }
+
+    @Test
+    void shouldRejectInvalidOrUnknownLivePoints() throws Exception {
+        scorePoint("unknown-game", "A").andExpect(status().isNotFound());
+        scorePoint("unknown-game", "C").andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldReturnHealthStatus() throws Exception {
         mockMvc.perform(get("/api/tennis/health"))
@@ -80,4 +147,10 @@ class TennisGameControllerTest {
                 .andExpect(jsonPath("$.deuce").exists())
                 .andExpect(jsonPath("$.advantage").exists());
     }
-}
\ No newline at end of file
+
+    private ResultActions scorePoint(String gameId, String player) throws Exception {
+        return mockMvc.perform(post("/api/tennis/games/" + gameId + "/points")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new PointRequest(player))));
+    }
+}
@@ -0,0 +1,140 @@
+package com.tennis.infrastructure.adapter;
+
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindGameRepositoryTest {
+
+    private InMemoryGameRepository delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private WriteBehindGameRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        var gameMetrics = new GameMetrics(meterRegistry);
+        delegate = new InMemoryGameRepository(gameMetrics);
+        // Long interval so that only explicit triggers flush during the test
+        repository = new WriteBehindGameRepository(delegate, gameMetrics, 3, Duration.ofHours(1), true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    void shouldKeepOnlyLatestStatePerGameUntilFlush() {
+        // Given
+        var gameState = GameState.initial("game-1").addPoint(Player.A);
+
+        // When
+        repository.save(gameState);
+        repository.save(gameState.addPoint(Player.B));
+
+        // Then
+        assertEquals(1, repository.pendingCount());
+        assertTrue(delegate.findById("game-1").isEmpty());
+        assertEquals("Player A : 15 / Player B : 15",
+                repository.findById("game-1").orElseThrow().displayScore());
+    }
+
+    @Test
+    void shouldFlushWhenGameFinishes() {
+        // Given
+        var gameState = GameState.initial("game-1");
+        for (int i = 0; i < 3; i++) {
+            gameState = gameState.addPoint(Player.A);
+            repository.save(gameState);
+        }
+
+        // When
+        repository.save(gameState.addPoint(Player.A));
+
+        // Then
+        assertEquals(0, repository.pendingCount());
+        assertTrue(delegate.findById("game-1").orElseThrow().isFinished());
+        assertEquals(1.0, meterRegistry.get("tennis.repository.flush.time").timer().count());
+    }
+
+    @Test
+    void shouldFlushWhenBatchSizeIsReached() {
+        // When
+        repository.save(GameState.initial("game-1").addPoint(Player.A));
+        repository.save(GameState.initial("game-2").addPoint(Player.A));
+        repository.save(GameState.initial("game-3").addPoint(Player.B));
+
+        // Then
+        assertEquals(0, repository.pendingCount());
+        assertEquals(3, delegate.countTotalGames());
+        assertEquals(3.0, meterRegistry.get("tennis.repository.flush.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    void shouldFlushBeforeAnsweringQueries() {
+        // Given
+        repository.save(GameState.initial("game-1").addPoint(Player.A));
+
+        // When
+        long total = repository.countTotalGames();
+
+        // Then
+        assertEquals(1, total);
+        assertEquals(0, repository.pendingCount());
+    }
+
+    @Test
+    void shouldExposeQueueDepthGauge() {
+        // When
+        repository.save(GameState.initial("game-1").addPoint(Player.A));
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("tennis.repository.queue.depth").gauge().value());
+    }
+
+    @Test
+    void shouldCompareAgainstBufferedThenStoredState() {
+        // Given - one game only in the delegate, one still buffered
+        var stored = GameState.initial("game-1");
+        delegate.save(stored);
+        var buffered = GameState.initial("game-2").addPoint(Player.B);
+        repository.save(buffered);
+
+        // When & Then
+        assertTrue(repository.replace(stored, stored.addPoint(Player.A)));
+        assertFalse(repository.replace(stored, stored.addPoint(Player.B)));
+        assertFalse(repository.replace(GameState.initial("game-2"), buffered.addPoint(Player.A)));
+        assertTrue(repository.replace(buffered, buffered.addPoint(Player.A)));
+        assertEquals("Player A : 15 / Player B : 15", repository.findById("game-2").orElseThrow().displayScore());
+    }
+
+    @Test
+    void shouldTreatBufferedStateAsPresentForSaveIfAbsent() {
+        // Given - one game only in the delegate, one still buffered
+        var stored = GameState.initial("game-1").addPoint(Player.A);
+        delegate.save(stored);
+        var buffered = GameState.initial("game-2").addPoint(Player.B);
+        repository.save(buffered);
+
+        // When
+        int saved = repository.saveAllIfAbsent(List.of(
+                GameState.initial("game-1"), GameState.initial("game-2"), GameState.initial("game-3")));
+
+        // Then
+        assertEquals(1, saved);
+        assertEquals(stored, repository.findById("game-1").orElseThrow());
+        assertEquals(buffered, repository.findById("game-2").orElseThrow());
+        assertTrue(delegate.findById("game-3").isPresent());
+        assertFalse(repository.saveIfAbsent(GameState.initial("game-3")));
+    }
+}
@@ -0,0 +1,82 @@
+package com.tennis.infrastructure.config;
+
+import com.tennis.avro.EventType;
+import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.adapter.KafkaGameEventPublisher;
+import com.tennis.infrastructure.messaging.GameEventSerializer;
+import io.confluent.kafka.schemaregistry.testutil.MockSchemaRegistry;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroDeserializerConfig;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvroSerdeSettingsTest {
+
+    private static final String REGISTRY_SCOPE = "avro-serde-settings-test";
+    private static final String TOPIC = "tennis-game-events";
+
+    @AfterEach
+    void tearDown() {
+        MockSchemaRegistry.dropScope(REGISTRY_SCOPE);
+    }
+
+    @Test
+    void shouldWriteAndReadEventsWithSchemaIdFromFile() {
+        // Given
+        Map<String, Object> properties = AvroSerdeSettings.embedded(REGISTRY_SCOPE, schemaIds(42)).properties();
+        GameEvent event = KafkaGameEventPublisher.createGameEvent(
+                GameState.initial("game-1").addPoint(Player.A), EventType.POINT_SCORED, "A");
+
+        try (KafkaAvroSerializer serializer = new KafkaAvroSerializer();
+             GameEventSerializer gameEventSerializer = new GameEventSerializer();
+             KafkaAvroDeserializer deserializer = new KafkaAvroDeserializer()) {
+            serializer.configure(properties, false);
+            gameEventSerializer.configure(properties, false);
+            Map<String, Object> consumerProperties = new HashMap<>(properties);
+            consumerProperties.put(KafkaAvroDeserializerConfig.SPECIFIC_AVRO_READER_CONFIG, true);
+            deserializer.configure(consumerProperties, false);
+
+            // When
+            byte[] bytes = serializer.serialize(TOPIC, event);
+
+            // Then
+            assertEquals(42, ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt());
+            assertEquals(event, deserializer.deserialize(TOPIC, bytes));
+            assertArrayEquals(bytes, gameEventSerializer.serialize(TOPIC, event));
+            // Internal topics of Kafka Streams resolve to the same schema
+            assertArrayEquals(bytes, serializer.serialize("tennis-streams-app-repartition", event));
+        }
+    }
+
+    @Test
+    void shouldRejectUnknownClass() {
+        Properties schemaIds = new Properties();
+        schemaIds.setProperty("com.tennis.avro.Missing", "1");
+
+        assertThrows(IllegalArgumentException.class, () -> AvroSerdeSettings.embedded(REGISTRY_SCOPE, schemaIds));
+    }
+
+    @Test
+    void shouldRegisterSchemasThroughRegistryByDefault() {
+        Map<String, Object> properties = AvroSerdeSettings.registry("http://localhost:8081").properties();
+
+        assertEquals("http://localhost:8081", properties.get("schema.registry.url"));
+        assertEquals(true, properties.get("auto.register.schemas"));
+    }
+
+    private static Properties schemaIds(int gameEventId) {
+        Properties schemaIds = new Properties();
+        schemaIds.setProperty(GameEvent.class.getName(), String.valueOf(gameEventId));
+        return schemaIds;
+    }
+}
@@ -0,0 +1,58 @@
+package com.tennis.infrastructure.config;
+
+import com.tennis.avro.EventType;
+import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.adapter.KafkaGameEventPublisher;
+import com.tennis.infrastructure.messaging.GameEventSerializer;
+import io.confluent.kafka.schemaregistry.testutil.MockSchemaRegistry;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KafkaConfigTest {
+
+    private static final String REGISTRY_SCOPE = "kafka-config-test";
+    private static final String TOPIC = "tennis-game-events";
+
+    @AfterEach
+    void tearDown() {
+        MockSchemaRegistry.dropScope(REGISTRY_SCOPE);
+    }
+
+    @Test
+    void shouldHandPoisonPillToListenerInsteadOfFailingThePoll() {
+        // Given
+        Properties schemaIds = new Properties();
+        schemaIds.setProperty(GameEvent.class.getName(), "42");
+        AvroSerdeSettings serdeSettings = AvroSerdeSettings.embedded(REGISTRY_SCOPE, schemaIds);
+        Map<String, Object> props = KafkaConfig.valueDeserializerProperties(serdeSettings);
+        GameEvent event = KafkaGameEventPublisher.createGameEvent(
+                GameState.initial("game-1").addPoint(Player.A), EventType.POINT_SCORED, "A");
+        byte[] poison = {0x7f, 0x01, 0x02};
+
+        try (GameEventSerializer serializer = new GameEventSerializer();
+             ErrorHandlingDeserializer<Object> deserializer = new ErrorHandlingDeserializer<>()) {
+            serializer.configure(serdeSettings.properties(), false);
+            deserializer.configure(props, false);
+            RecordHeaders poisonHeaders = new RecordHeaders();
+
+            // When
+            Object poisonValue = deserializer.deserialize(TOPIC, poisonHeaders, poison);
+            Object eventValue = deserializer.deserialize(TOPIC, new RecordHeaders(), serializer.serialize(TOPIC, event));
+
+            // Then
+            assertNull(poisonValue);
+            assertNotNull(poisonHeaders.lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER));
+            assertEquals(event, eventValue);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.tennis.infrastructure.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProducerTuningTest {
+
+    @Test
+    void shouldMapTuningToProducerProperties() {
+        // When
+        Map<String, Object> props = ProducerProfile.HIGH_THROUGHPUT.tuning().producerProperties();
+
+        // Then
+        assertEquals(20, props.get(ProducerConfig.LINGER_MS_CONFIG));
+        assertEquals(256 * 1024, props.get(ProducerConfig.BATCH_SIZE_CONFIG));
+        assertEquals("lz4", props.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+        assertEquals(true, props.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        assertEquals("all", props.get(ProducerConfig.ACKS_CONFIG));
+    }
+
+    @Test
+    void shouldRejectIdempotenceWithoutFullAcknowledgement() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProducerTuning(Duration.ZERO, 16_384, "none", true, "1", 5, 32L << 20));
+    }
+
+    @Test
+    void shouldAllowLeaderAcknowledgementWithoutIdempotence() {
+        var tuning = new ProducerTuning(Duration.ofMillis(1), 16_384, "zstd", false, "1", 10, 32L << 20);
+
+        assertEquals("1", tuning.producerProperties().get(ProducerConfig.ACKS_CONFIG));
+    }
+
+    @Test
+    void shouldRejectUnknownCompressionType() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProducerTuning(Duration.ZERO, 16_384, "brotli", true, "all", 5, 32L << 20));
+    }
+}
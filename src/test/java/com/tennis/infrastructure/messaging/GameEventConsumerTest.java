@@ -0,0 +1,211 @@
+package com.tennis.infrastructure.messaging;
+
+import com.tennis.application.dto.LiveGameResponse;
+import com.tennis.avro.EventMetadata;
+import com.tennis.avro.EventType;
+import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class GameEventConsumerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<LiveGameResponse> published;
+    private List<String> recovered;
+    private List<Exception> recoveryCauses;
+    private GameEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        published = new CopyOnWriteArrayList<>();
+        recovered = new CopyOnWriteArrayList<>();
+        recoveryCauses = new CopyOnWriteArrayList<>();
+        LiveScoreBroadcaster broadcaster = mock(LiveScoreBroadcaster.class);
+        doAnswer(invocation -> {
+            LiveGameResponse update = invocation.getArgument(0);
+            if (update.gameId().startsWith("poison")) {
+                throw new IllegalStateException("cannot process " + update.gameId());
+            }
+            return published.add(update);
+        }).when(broadcaster).publish(any());
+        consumer = new GameEventConsumer(broadcaster, new GameMetrics(meterRegistry),
+                (record, exception) -> {
+                    recovered.add((String) record.key());
+                    recoveryCauses.add(exception);
+                }, true, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.close();
+    }
+
+    @Test
+    void shouldProcessBatchInGameOrderAndAcknowledgeOnce() {
+        // Given - the points of 20 games, interleaved
+        List<ConsumerRecord<String, GameEvent>> records = new ArrayList<>();
+        List<GameState> games = new ArrayList<>();
+        for (int game = 0; game < 20; game++) {
+            games.add(GameState.initial("game-" + game));
+        }
+        for (int point = 0; point < 4; point++) {
+            for (int game = 0; game < games.size(); game++) {
+                GameState gameState = games.get(game).addPoint(Player.A);
+                games.set(game, gameState);
+                records.add(new ConsumerRecord<>("tennis-game-events", game % 3, records.size(),
+                        gameState.gameId(), pointScored(gameState)));
+            }
+        }
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // When
+        consumer.handleGameEventBatch(records, acknowledgment);
+
+        // Then
+        verify(acknowledgment, times(1)).acknowledge();
+        assertEquals(80, published.size());
+        for (GameState game : games) {
+            assertEquals(List.of("Player A : 15 / Player B : 0", "Player A : 30 / Player B : 0",
+                            "Player A : 40 / Player B : 0", "Player A wins the game"),
+                    published.stream()
+                            .filter(update -> update.gameId().equals(game.gameId()))
+                            .map(LiveGameResponse::score)
+                            .toList());
+        }
+        assertEquals(80.0, meterRegistry.get("tennis.consumer.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    void shouldHandFailedRecordsToRetryTopicAndAcknowledgeBatch() {
+        // Given
+        GameState healthy = GameState.initial("game-1").addPoint(Player.A);
+        GameState poison = GameState.initial("poison-1").addPoint(Player.A);
+        List<ConsumerRecord<String, GameEvent>> records = List.of(
+                new ConsumerRecord<>("tennis-game-events", 0, 0, poison.gameId(), pointScored(poison)),
+                new ConsumerRecord<>("tennis-game-events", 0, 1, healthy.gameId(), pointScored(healthy)));
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // When
+        consumer.handleGameEventBatch(records, acknowledgment);
+
+        // Then
+        assertEquals(List.of("poison-1"), recovered);
+        assertEquals(1, published.size());
+        verify(acknowledgment).acknowledge();
+        assertEquals(1.0, meterRegistry.get("tennis.consumer.failures").tag("tier", "main").counter().count());
+    }
+
+    @Test
+    void shouldSendUndeserializableRecordsToDeadLetterTopicAndProcessTheRest() {
+        // Given - a record whose value the deserializer rejected, as the error handling deserializer hands it over
+        GameState healthy = GameState.initial("game-1").addPoint(Player.A);
+        List<ConsumerRecord<String, GameEvent>> records = List.of(
+                undeserializable("game-2", new byte[] {0x7f, 0x01}),
+                new ConsumerRecord<>("tennis-game-events", 0, 1, healthy.gameId(), pointScored(healthy)));
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // When
+        consumer.handleGameEventBatch(records, acknowledgment);
+
+        // Then
+        assertEquals(List.of("game-2"), recovered);
+        DeserializationException cause = assertInstanceOf(DeserializationException.class, recoveryCauses.getFirst());
+        assertArrayEquals(new byte[] {0x7f, 0x01}, cause.getData());
+        assertEquals(1, published.size());
+        verify(acknowledgment).acknowledge();
+        assertEquals(GameEventConsumer.DEAD_LETTER_TOPIC,
+                GameEventConsumer.batchFailureDestination(records.get(0), cause).topic());
+        assertEquals(GameEventConsumer.FIRST_RETRY_TOPIC,
+                GameEventConsumer.batchFailureDestination(records.get(1), cause).topic());
+    }
+
+    @Test
+    void shouldCountRecordListenerFailuresPerTierAndRethrow() {
+        // Given
+        GameState poison = GameState.initial("poison-1").addPoint(Player.B);
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> consumer.handleGameEvent(
+                pointScored(poison), "tennis-game-events-retry-1", 0, 7, acknowledgment));
+
+        // Then
+        verify(acknowledgment, never()).acknowledge();
+        assertEquals(1.0, meterRegistry.get("tennis.consumer.failures").tag("tier", "retry-1").counter().count());
+    }
+
+    @Test
+    void shouldKeepEachGameInOneLane() {
+        // Given
+        List<ConsumerRecord<String, GameEvent>> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            GameState gameState = GameState.initial("game-" + (i % 10)).addPoint(Player.B);
+            records.add(new ConsumerRecord<>("tennis-game-events", 0, i, gameState.gameId(), pointScored(gameState)));
+        }
+
+        // When
+        var lanes = consumer.lanesByGame(records);
+
+        // Then
+        assertEquals(4, lanes.size());
+        assertEquals(100, lanes.stream().mapToInt(List::size).sum());
+        for (var lane : lanes) {
+            for (var record : lane) {
+                assertTrue(lanes.stream()
+                        .filter(other -> other != lane)
+                        .flatMap(List::stream)
+                        .noneMatch(other -> other.key().equals(record.key())));
+            }
+        }
+    }
+
+    private static ConsumerRecord<String, GameEvent> undeserializable(String key, byte[] value) {
+        Deserializer<GameEvent> failing = (topic, data) -> {
+            throw new SerializationException("Unknown magic byte!");
+        };
+        RecordHeaders headers = new RecordHeaders();
+        try (ErrorHandlingDeserializer<GameEvent> deserializer = new ErrorHandlingDeserializer<>(failing)) {
+            GameEvent event = deserializer.deserialize("tennis-game-events", headers, value);
+            return new ConsumerRecord<>("tennis-game-events", 0, 0, 0L, TimestampType.CREATE_TIME,
+                    key.length(), value.length, key, event, headers, Optional.empty());
+        }
+    }
+
+    private static GameEvent pointScored(GameState gameState) {
+        return GameEvent.newBuilder()
+                .setGameId(gameState.gameId())
+                .setEventType(EventType.POINT_SCORED)
+                .setPlayer("A")
+                .setPlayerAScore(gameState.score().playerAPoints())
+                .setPlayerBScore(gameState.score().playerBPoints())
+                .setDisplayScore(gameState.displayScore())
+                .setIsFinished(gameState.isFinished())
+                .setWinner(gameState.winner() != null ? gameState.winner().name() : null)
+                .setTimestamp(System.currentTimeMillis())
+                .setMetadata(EventMetadata.newBuilder().build())
+                .build();
+    }
+}
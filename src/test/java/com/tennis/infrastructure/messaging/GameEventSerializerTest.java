@@ -0,0 +1,76 @@
+package com.tennis.infrastructure.messaging;
+
+import com.tennis.avro.EventType;
+import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.adapter.KafkaGameEventPublisher;
+import io.confluent.kafka.schemaregistry.testutil.MockSchemaRegistry;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventSerializerTest {
+
+    private static final String REGISTRY_SCOPE = "game-event-serializer-test";
+    private static final Map<String, Object> CONFIG = Map.of(
+            "schema.registry.url", "mock://" + REGISTRY_SCOPE,
+            "auto.register.schemas", true,
+            "use.latest.version", true);
+
+    private GameEventSerializer serializer;
+    private KafkaAvroSerializer registrySerializer;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new GameEventSerializer();
+        serializer.configure(CONFIG, false);
+        registrySerializer = new KafkaAvroSerializer();
+        registrySerializer.configure(CONFIG, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serializer.close();
+        registrySerializer.close();
+        MockSchemaRegistry.dropScope(REGISTRY_SCOPE);
+    }
+
+    @Test
+    void shouldWriteSameBytesAsRegistrySerializer() {
+        // Given - every kind of event, on two topics
+        List<GameEvent> events = new ArrayList<>();
+        GameState gameState = GameState.initial("game-1");
+        for (Player player : List.of(Player.A, Player.B, Player.A, Player.A, Player.A)) {
+            gameState = gameState.addPoint(player);
+            events.add(KafkaGameEventPublisher.createGameEvent(gameState, EventType.POINT_SCORED, player.name()));
+        }
+        events.add(KafkaGameEventPublisher.createGameEvent(gameState, EventType.GAME_FINISHED, null));
+        GameEvent summary = KafkaGameEventPublisher.createGameEvent(gameState, EventType.GAME_SUMMARY, null);
+        summary.setPointBitmap(GameSummaryCodec.pack(List.of(Player.A, Player.B, Player.A, Player.A, Player.A)));
+        summary.setPointCount(5);
+        events.add(summary);
+
+        for (String topic : List.of("tennis-game-events", "tennis-game-events-retry-0")) {
+            for (GameEvent event : events) {
+                // When
+                byte[] bytes = serializer.serialize(topic, event);
+
+                // Then
+                assertArrayEquals(registrySerializer.serialize(topic, event), bytes);
+            }
+        }
+    }
+
+    @Test
+    void shouldPassNullThrough() {
+        assertNull(serializer.serialize("tennis-game-events", null));
+    }
+}
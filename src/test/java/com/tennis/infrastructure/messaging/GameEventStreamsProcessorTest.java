@@ -0,0 +1,101 @@
+package com.tennis.infrastructure.messaging;
+
+import com.tennis.avro.EventMetadata;
+import com.tennis.avro.EventType;
+import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.config.AvroSerdeSettings;
+import io.confluent.kafka.schemaregistry.testutil.MockSchemaRegistry;
+import io.confluent.kafka.streams.serdes.avro.SpecificAvroSerde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventStreamsProcessorTest {
+
+    private static final String REGISTRY_SCOPE = "streams-processor-test";
+    private static final String SCHEMA_REGISTRY_URL = "mock://" + REGISTRY_SCOPE;
+
+    private TopologyTestDriver driver;
+    private TestInputTopic<String, GameEvent> gameEvents;
+
+    @BeforeEach
+    void setUp() {
+        GameEventStreamsProcessor processor = new GameEventStreamsProcessor(
+                AvroSerdeSettings.registry(SCHEMA_REGISTRY_URL));
+        StreamsBuilder streamsBuilder = new StreamsBuilder();
+        processor.processGameEvents(streamsBuilder);
+
+        Properties props = new Properties();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, "tennis-streams-test");
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        driver = new TopologyTestDriver(streamsBuilder.build(), props);
+
+        SpecificAvroSerde<GameEvent> gameEventSerde = new SpecificAvroSerde<>();
+        gameEventSerde.configure(Collections.singletonMap("schema.registry.url", SCHEMA_REGISTRY_URL), false);
+        gameEvents = driver.createInputTopic("tennis-game-events",
+                Serdes.String().serializer(), gameEventSerde.serializer());
+    }
+
+    @AfterEach
+    void tearDown() {
+        driver.close();
+        MockSchemaRegistry.dropScope(REGISTRY_SCOPE);
+    }
+
+    @Test
+    void shouldMaterializeAggregatesIntoNamedStores() {
+        // Given
+        List<Player> straightA = List.of(Player.A, Player.A, Player.A, Player.A);
+        List<Player> straightB = List.of(Player.B, Player.B, Player.B, Player.B);
+
+        // When
+        gameEvents.pipeInput("game-1", summary("game-1", straightA, 4, 0, "A"));
+        gameEvents.pipeInput("game-2", summary("game-2", straightB, 0, 4, "B"));
+        gameEvents.pipeInput("game-3", summary("game-3", List.of(Player.A, Player.B), 1, 1, null));
+        gameEvents.pipeInput("game-4", summary("game-4", straightA, 4, 0, "A"));
+
+        // Then
+        KeyValueStore<String, Long> pointsPerGame = driver.getKeyValueStore(GameEventStreamsProcessor.POINTS_PER_GAME_STORE);
+        assertEquals(4L, pointsPerGame.get("game-1"));
+        assertEquals(2L, pointsPerGame.get("game-3"));
+
+        KeyValueStore<String, Long> winsPerPlayer = driver.getKeyValueStore(GameEventStreamsProcessor.WINS_PER_PLAYER_STORE);
+        assertEquals(2L, winsPerPlayer.get("A"));
+        assertEquals(1L, winsPerPlayer.get("B"));
+
+        KeyValueStore<String, String> finishedGames = driver.getKeyValueStore(GameEventStreamsProcessor.FINISHED_GAMES_STORE);
+        assertEquals("A", finishedGames.get("game-1"));
+        assertEquals("B", finishedGames.get("game-2"));
+        assertNull(finishedGames.get("game-3"));
+    }
+
+    private static GameEvent summary(String gameId, List<Player> balls, int playerAScore, int playerBScore,
+                                     String winner) {
+        return GameEvent.newBuilder()
+                .setGameId(gameId)
+                .setEventType(EventType.GAME_SUMMARY)
+                .setPlayerAScore(playerAScore)
+                .setPlayerBScore(playerBScore)
+                .setDisplayScore("")
+                .setIsFinished(winner != null)
+                .setWinner(winner)
+                .setTimestamp(42L)
+                .setMetadata(EventMetadata.newBuilder().build())
+                .setPointBitmap(GameSummaryCodec.pack(balls))
+                .setPointCount(balls.size())
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package com.tennis.infrastructure.messaging;
+
+import com.tennis.avro.EventMetadata;
+import com.tennis.avro.EventType;
+import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.adapter.EvictionPolicy;
+import com.tennis.infrastructure.adapter.InMemoryGameRepository;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class GameStateLoaderTest {
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition(GameStateLoader.TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(GameStateLoader.TOPIC, 1);
+    private static final long NOW = 1_700_000_000_000L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GameMetrics gameMetrics;
+    private ConsumerFactory<String, GameEvent> consumerFactory;
+    private InMemoryGameRepository repository;
+    private Map<TopicPartition, List<ConsumerRecord<String, GameEvent>>> topic;
+    private GameStateLoader loader;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gameMetrics = new GameMetrics(meterRegistry);
+        repository = new InMemoryGameRepository(gameMetrics);
+        topic = new HashMap<>(Map.of(PARTITION_0, new ArrayList<>(), PARTITION_1, new ArrayList<>()));
+
+        consumerFactory = mock(ConsumerFactory.class);
+        when(consumerFactory.createConsumer(any(), any(), any(), any())).thenAnswer(invocation -> consumer());
+        loader = new GameStateLoader(consumerFactory, repository, gameMetrics, 0, Duration.ZERO, () -> NOW);
+    }
+
+    @Test
+    void shouldRestoreLatestStateOfEveryGame() {
+        // Given - game-1 is finished, game-3 was deleted
+        GameState game1 = GameState.initial("game-1").addPoint(Player.A);
+        append(PARTITION_0, game1);
+        for (int i = 0; i < 3; i++) {
+            game1 = game1.addPoint(Player.A);
+        }
+        append(PARTITION_0, game1);
+        GameState game2 = GameState.initial("game-2").addPoint(Player.B);
+        append(PARTITION_1, game2);
+        append(PARTITION_1, GameState.initial("game-3").addPoint(Player.A));
+        topic.get(PARTITION_1).add(new ConsumerRecord<>(GameStateLoader.TOPIC, 1, 2, "game-3", null));
+
+        // When
+        loader.loadQuietly();
+
+        // Then
+        assertEquals(game1, repository.findById("game-1").orElseThrow());
+        assertTrue(repository.findById("game-1").orElseThrow().isFinished());
+        assertEquals(game2, repository.findById("game-2").orElseThrow());
+        assertTrue(repository.findById("game-3").isEmpty());
+
+        Health health = loader.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(5L, health.getDetails().get("records"));
+        assertEquals(2L, health.getDetails().get("games"));
+        assertEquals(5.0, meterRegistry.get("tennis.state.rebuild.records").counter().count());
+        assertEquals(1, meterRegistry.get("tennis.state.rebuild.time").timer().count());
+    }
+
+    @Test
+    void shouldKeepGamesAlreadyInRepository() {
+        // Given - game-1 was recovered from the journal with a newer state
+        GameState recovered = GameState.initial("game-1").addPoint(Player.A).addPoint(Player.B);
+        repository.save(recovered);
+        append(PARTITION_0, GameState.initial("game-1").addPoint(Player.A));
+
+        // When
+        loader.loadQuietly();
+
+        // Then
+        assertEquals(recovered, repository.findById("game-1").orElseThrow());
+        assertEquals(0L, loader.health().getDetails().get("games"));
+    }
+
+    @Test
+    void shouldSkipGamesThatFinishedLongerAgoThanTtl() {
+        // Given
+        loader = new GameStateLoader(consumerFactory, repository, gameMetrics, 0, Duration.ofMinutes(5), () -> NOW);
+        append(PARTITION_0, playGame("game-1", "AAAA"), NOW - Duration.ofMinutes(6).toMillis());
+        append(PARTITION_0, playGame("game-2", "BBBB"), NOW - Duration.ofMinutes(4).toMillis());
+        append(PARTITION_1, playGame("game-3", "AB"), NOW - Duration.ofHours(1).toMillis());
+
+        // When
+        loader.loadQuietly();
+
+        // Then - the live game is kept however old its last point is
+        assertTrue(repository.findById("game-1").isEmpty());
+        assertTrue(repository.findById("game-2").isPresent());
+        assertTrue(repository.findById("game-3").isPresent());
+        assertEquals(2L, loader.health().getDetails().get("games"));
+        assertEquals(1L, loader.health().getDetails().get("expired"));
+    }
+
+    @Test
+    void shouldNotRestoreGameEvictedSinceStart() {
+        // Given - game-1 was evicted by game-2 before loading reached it
+        repository = new InMemoryGameRepository(new EvictionPolicy(1, 0, Duration.ZERO), null, gameMetrics);
+        loader = new GameStateLoader(consumerFactory, repository, gameMetrics, 0, Duration.ZERO, () -> NOW);
+        GameState game1 = playGame("game-1", "AAAA");
+        repository.save(game1);
+        repository.save(playGame("game-2", "BBBB"));
+        append(PARTITION_0, game1);
+
+        // When
+        loader.loadQuietly();
+
+        // Then
+        assertTrue(repository.findById("game-1").isEmpty());
+        assertEquals(2, repository.countTotalGames());
+        assertEquals(0L, loader.health().getDetails().get("games"));
+    }
+
+    @Test
+    void shouldBeOutOfServiceUntilLoaded() {
+        assertEquals(Status.OUT_OF_SERVICE, loader.health().getStatus());
+    }
+
+    private void append(TopicPartition partition, GameState gameState) {
+        append(partition, gameState, NOW);
+    }
+
+    private void append(TopicPartition partition, GameState gameState, long timestamp) {
+        List<ConsumerRecord<String, GameEvent>> records = topic.get(partition);
+        records.add(new ConsumerRecord<>(GameStateLoader.TOPIC, partition.partition(), records.size(),
+                gameState.gameId(), stateEvent(gameState, timestamp)));
+    }
+
+    private static GameState playGame(String gameId, String sequence) {
+        var gameState = GameState.initial(gameId);
+        for (char ball : sequence.toCharArray()) {
+            gameState = gameState.addPoint(ball == 'A' ? Player.A : Player.B);
+        }
+        return gameState;
+    }
+
+    /** A consumer over {@link #topic} that returns the records of whichever partitions it is assigned. */
+    private MockConsumer<String, GameEvent> consumer() {
+        MockConsumer<String, GameEvent> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(GameStateLoader.TOPIC, List.of(
+                new PartitionInfo(GameStateLoader.TOPIC, 0, null, null, null),
+                new PartitionInfo(GameStateLoader.TOPIC, 1, null, null, null)));
+        Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        Map<TopicPartition, Long> endOffsets = new HashMap<>();
+        topic.forEach((partition, records) -> {
+            beginningOffsets.put(partition, 0L);
+            endOffsets.put(partition, (long) records.size());
+        });
+        consumer.updateBeginningOffsets(beginningOffsets);
+        consumer.updateEndOffsets(endOffsets);
+        consumer.schedulePollTask(() -> consumer.assignment()
+                .forEach(partition -> topic.get(partition).forEach(consumer::addRecord)));
+        return consumer;
+    }
+
+    private static GameEvent stateEvent(GameState gameState, long timestamp) {
+        return GameEvent.newBuilder()
+                .setGameId(gameState.gameId())
+                .setEventType(gameState.isFinished() ? EventType.GAME_FINISHED : EventType.POINT_SCORED)
+                .setPlayerAScore(gameState.score().playerAPoints())
+                .setPlayerBScore(gameState.score().playerBPoints())
+                .setDisplayScore(gameState.displayScore())
+                .setIsFinished(gameState.isFinished())
+                .setWinner(gameState.winner() != null ? gameState.winner().name() : null)
+                .setTimestamp(timestamp)
+                .setMetadata(EventMetadata.newBuilder().build())
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.tennis.infrastructure.messaging;
+
+import com.tennis.avro.EventMetadata;
+import com.tennis.avro.EventType;
+import com.tennis.avro.GameEvent;
+import com.tennis.domain.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSummaryCodecTest {
+
+    @Test
+    void shouldPackOneBitPerBallLeastSignificantBitFirst() {
+        // When
+        ByteBuffer bitmap = GameSummaryCodec.pack(List.of(Player.A, Player.B, Player.A, Player.A, Player.A));
+
+        // Then
+        assertEquals(ByteBuffer.wrap(new byte[]{0b11101}), bitmap);
+    }
+
+    @Test
+    void shouldUnpackWhatWasPackedAcrossSeveralBytes() {
+        // Given - a long deuce battle
+        List<Player> balls = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            balls.add(Player.A);
+            balls.add(Player.B);
+        }
+        balls.add(Player.B);
+        balls.add(Player.B);
+
+        // When
+        ByteBuffer bitmap = GameSummaryCodec.pack(balls);
+
+        // Then
+        assertEquals(3, bitmap.remaining());
+        assertEquals(balls, GameSummaryCodec.unpack(bitmap, balls.size()));
+    }
+
+    @Test
+    void shouldRejectCountLargerThanBitmap() {
+        assertThrows(IllegalArgumentException.class,
+                () -> GameSummaryCodec.unpack(ByteBuffer.wrap(new byte[1]), 9));
+    }
+
+    @Test
+    void shouldExpandSummaryIntoPointAndFinishedEvents() {
+        // Given - ABABAA
+        GameEvent summary = summary(List.of(Player.A, Player.B, Player.A, Player.B, Player.A, Player.A), 4, 2, true);
+
+        // When
+        List<GameEvent> events = GameSummaryCodec.expand(summary);
+
+        // Then
+        assertEquals(7, events.size());
+        assertEquals(List.of("A", "B", "A", "B", "A", "A"),
+                events.subList(0, 6).stream().map(GameEvent::getPlayer).toList());
+        assertTrue(events.subList(0, 6).stream().allMatch(event -> event.getEventType() == EventType.POINT_SCORED));
+        assertEquals("Player A : 40 / Player B : 30", events.get(4).getDisplayScore());
+        assertTrue(events.get(5).getIsFinished());
+        assertEquals("A", events.get(5).getWinner());
+
+        GameEvent finished = events.get(6);
+        assertEquals(EventType.GAME_FINISHED, finished.getEventType());
+        assertEquals(4, finished.getPlayerAScore());
+        assertEquals(2, finished.getPlayerBScore());
+        assertEquals(summary.getTimestamp(), finished.getTimestamp());
+        assertNull(finished.getPointBitmap());
+    }
+
+    @Test
+    void shouldNotAddFinishedEventForUnfinishedGame() {
+        // When
+        List<GameEvent> events = GameSummaryCodec.expand(summary(List.of(Player.B, Player.B), 0, 2, false));
+
+        // Then
+        assertEquals(2, events.size());
+        assertEquals("Player A : 0 / Player B : 30", events.get(1).getDisplayScore());
+    }
+
+    @Test
+    void shouldLeaveOtherEventsUnchanged() {
+        // Given
+        GameEvent point = GameEvent.newBuilder(summary(List.of(Player.A), 1, 0, false))
+                .setEventType(EventType.POINT_SCORED)
+                .clearPointBitmap()
+                .clearPointCount()
+                .build();
+
+        // When & Then
+        assertEquals(List.of(point), GameSummaryCodec.expand(point));
+    }
+
+    private static GameEvent summary(List<Player> balls, int playerAScore, int playerBScore, boolean finished) {
+        return GameEvent.newBuilder()
+                .setGameId("game-1")
+                .setEventType(EventType.GAME_SUMMARY)
+                .setPlayerAScore(playerAScore)
+                .setPlayerBScore(playerBScore)
+                .setDisplayScore("")
+                .setIsFinished(finished)
+                .setWinner(finished ? "A" : null)
+                .setTimestamp(42L)
+                .setMetadata(EventMetadata.newBuilder().build())
+                .setPointBitmap(GameSummaryCodec.pack(balls))
+                .setPointCount(balls.size())
+                .build();
+    }
+}
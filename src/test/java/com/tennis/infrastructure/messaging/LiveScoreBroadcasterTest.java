@@ -0,0 +1,182 @@
+package com.tennis.infrastructure.messaging;
+
+import com.tennis.application.dto.LiveGameResponse;
+import com.tennis.domain.model.GameState;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.monitoring.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveScoreBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LiveScoreBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new LiveScoreBroadcaster(new GameMetrics(meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.close();
+    }
+
+    @Test
+    void shouldSendSnapshotThenUpdatesAndCompleteAfterWinningPoint() throws InterruptedException {
+        // Given
+        var gameState = GameState.initial("game-1");
+        var subscriber = new RecordingSubscriber();
+        var initial = gameState;
+        broadcaster.subscribe("game-1", subscriber, () -> LiveGameResponse.from(initial));
+        subscriber.awaitUpdates(1);
+
+        // When - publish one point at a time, waiting for each so none is conflated
+        for (int i = 0; i < 4; i++) {
+            gameState = gameState.addPoint(Player.A);
+            broadcaster.publish(LiveGameResponse.from(gameState));
+            subscriber.awaitUpdates(i + 2);
+        }
+
+        // Then
+        assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(
+                "Player A : 0 / Player B : 0",
+                "Player A : 15 / Player B : 0",
+                "Player A : 30 / Player B : 0",
+                "Player A : 40 / Player B : 0",
+                "Player A wins the game"
+        ), subscriber.scores());
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void shouldConflateUpdatesForSlowSubscriberWithoutStallingOthers() throws InterruptedException {
+        // Given - the slow subscriber blocks on its first delivery
+        var release = new CountDownLatch(1);
+        var slow = new RecordingSubscriber(release);
+        var fast = new RecordingSubscriber();
+        var gameState = GameState.initial("game-1");
+        var initial = gameState;
+        broadcaster.subscribe("game-1", slow, () -> LiveGameResponse.from(initial));
+        broadcaster.subscribe("game-1", fast, () -> LiveGameResponse.from(initial));
+        fast.awaitUpdates(1);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            gameState = gameState.addPoint(Player.B);
+            broadcaster.publish(LiveGameResponse.from(gameState));
+            fast.awaitUpdates(i + 2);
+        }
+        release.countDown();
+        slow.awaitUpdates(2);
+
+        // Then - the slow subscriber skipped straight to the latest score
+        assertEquals(4, fast.scores().size());
+        assertEquals(List.of("Player A : 0 / Player B : 0", "Player A : 0 / Player B : 40"), slow.scores());
+        assertEquals(2.0, meterRegistry.get("tennis.live.updates.conflated").counter().count());
+    }
+
+    @Test
+    void shouldNotDeliverStaleSnapshotAfterNewerUpdate() throws InterruptedException {
+        // Given - a point is published while the snapshot is being read
+        var subscriber = new RecordingSubscriber();
+        var stale = GameState.initial("game-1");
+        var newer = stale.addPoint(Player.A);
+
+        // When
+        broadcaster.subscribe("game-1", subscriber, () -> {
+            broadcaster.publish(LiveGameResponse.from(newer));
+            return LiveGameResponse.from(stale);
+        });
+        subscriber.awaitUpdates(1);
+
+        // Then
+        Thread.sleep(100);
+        assertEquals(List.of("Player A : 15 / Player B : 0"), subscriber.scores());
+    }
+
+    @Test
+    void shouldDropSubscriberWhenDeliveryFails() throws InterruptedException {
+        // Given
+        var delivered = new CountDownLatch(1);
+        LiveScoreBroadcaster.Subscriber failing = new LiveScoreBroadcaster.Subscriber() {
+            @Override
+            public void send(LiveGameResponse update) throws Exception {
+                delivered.countDown();
+                throw new java.io.IOException("Broken pipe");
+            }
+
+            @Override
+            public void complete() {
+            }
+        };
+
+        // When
+        broadcaster.subscribe("game-1", failing, () -> LiveGameResponse.from(GameState.initial("game-1")));
+
+        // Then
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 50 && broadcaster.subscriberCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void shouldCancelSubscriptionWhenSnapshotFails() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> broadcaster.subscribe("game-1", new RecordingSubscriber(),
+                () -> { throw new IllegalStateException("unknown game"); }));
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    private static final class RecordingSubscriber implements LiveScoreBroadcaster.Subscriber {
+
+        private final List<LiveGameResponse> updates = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch firstDeliveryGate;
+
+        RecordingSubscriber() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingSubscriber(CountDownLatch firstDeliveryGate) {
+            this.firstDeliveryGate = firstDeliveryGate;
+        }
+
+        @Override
+        public void send(LiveGameResponse update) throws InterruptedException {
+            updates.add(update);
+            if (updates.size() == 1) {
+                firstDeliveryGate.await();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        List<String> scores() {
+            return updates.stream().map(LiveGameResponse::score).toList();
+        }
+
+        void awaitUpdates(int count) throws InterruptedException {
+            for (int i = 0; i < 500 && updates.size() < count; i++) {
+                Thread.sleep(10);
+            }
+            assertTrue(updates.size() >= count, "expected " + count + " updates but got " + updates.size());
+        }
+    }
+}